@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for decoding pages of results from GitHub's REST API, comparing data
+ * binding with {@link ObjectMapper} with the field-selective {@link JsonArrayDecoder}.
+ * Run with the {@code gc} profiler to compare the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonArrayDecoderBenchmark {
+
+	@Benchmark
+	public List<Repository> bindRepositories(Pages pages) throws IOException {
+		return List.of(pages.objectMapper.readValue(new ByteArrayInputStream(pages.repositories), Repository[].class));
+	}
+
+	@Benchmark
+	public List<Repository> decodeRepositories(Pages pages) throws IOException {
+		return JsonArrayDecoder.REPOSITORIES.decode(new ByteArrayInputStream(pages.repositories));
+	}
+
+	@Benchmark
+	public List<Milestone> bindMilestones(Pages pages) throws IOException {
+		return List.of(pages.objectMapper.readValue(new ByteArrayInputStream(pages.milestones), Milestone[].class));
+	}
+
+	@Benchmark
+	public List<Milestone> decodeMilestones(Pages pages) throws IOException {
+		return JsonArrayDecoder.MILESTONES.decode(new ByteArrayInputStream(pages.milestones));
+	}
+
+	/**
+	 * State for the benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Pages {
+
+		private ObjectMapper objectMapper;
+
+		private byte[] repositories;
+
+		private byte[] milestones;
+
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+			this.repositories = read("GitHubTemplateTests-getRepositories.json");
+			this.milestones = read("GitHubTemplateTests-getMilestones.json");
+		}
+
+		private byte[] read(String name) throws IOException {
+			return new ClassPathResource(name, JsonArrayDecoderBenchmark.class).getContentAsByteArray();
+		}
+
+	}
+
+}
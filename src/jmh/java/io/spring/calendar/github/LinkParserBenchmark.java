@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing the {@code Link} header of a page of results from GitHub's
+ * REST API, comparing {@link RegexLinkParser} with {@link SinglePassLinkParser}. Run
+ * with the {@code gc} profiler to compare the bytes allocated per operation.
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkParserBenchmark {
+
+	private static final String FIRST_PAGE = "<https://api.github.com/organizations/317776/repos?per_page=100&page=2>; "
+			+ "rel=\"next\", <https://api.github.com/organizations/317776/repos?per_page=100&page=9>; rel=\"last\"";
+
+	private static final String MIDDLE_PAGE = "<https://api.github.com/organizations/317776/repos?per_page=100&page=4>;"
+			+ " rel=\"prev\", <https://api.github.com/organizations/317776/repos?per_page=100&page=6>; rel=\"next\", "
+			+ "<https://api.github.com/organizations/317776/repos?per_page=100&page=9>; rel=\"last\", "
+			+ "<https://api.github.com/organizations/317776/repos?per_page=100&page=1>; rel=\"first\"";
+
+	private final RegexLinkParser regexParser = new RegexLinkParser();
+
+	private final SinglePassLinkParser singlePassParser = new SinglePassLinkParser();
+
+	@Benchmark
+	public Map<String, String> regexFirstPage() {
+		return this.regexParser.parse(FIRST_PAGE);
+	}
+
+	@Benchmark
+	public Map<String, String> regexMiddlePage() {
+		return this.regexParser.parse(MIDDLE_PAGE);
+	}
+
+	@Benchmark
+	public Map<String, String> singlePassFirstPage() {
+		return this.singlePassParser.parse(FIRST_PAGE);
+	}
+
+	@Benchmark
+	public Map<String, String> singlePassMiddlePage() {
+		return this.singlePassParser.parse(MIDDLE_PAGE);
+	}
+
+}
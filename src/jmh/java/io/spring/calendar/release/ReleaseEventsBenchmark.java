@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Benchmarks for the Full Calendar events for a month of releases in
+ * {@link ReleaseEventsController}. Each request is unconditional so that a response body
+ * is produced every time. The events are rendered by the first request and later
+ * requests concatenate the pre-serialized events of the month. For comparison, the
+ * {@code mapEventsForMonth} benchmark maps each release to a {@code Map} and serializes
+ * the maps on every request, as the controller did before the events were
+ * pre-serialized. The {@code gc.alloc.rate.norm} result of the {@code gc} profiler is the
+ * number of bytes that are allocated per request.
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseEventsBenchmark {
+
+	@Benchmark
+	public ResponseEntity<byte[]> buildEventsForMonth(Events events) throws ParseException {
+		return events.controller.releases("2020-06-01", "2020-07-01", null,
+				new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+	}
+
+	@Benchmark
+	public byte[] mapEventsForMonth(Events events) throws Exception {
+		Date start = new SimpleDateFormat("yyyy-MM-dd").parse("2020-06-01");
+		Date end = new SimpleDateFormat("yyyy-MM-dd").parse("2020-07-01");
+		List<Map<String, Object>> mapped = events.repository.findAllOfTypeInPeriod(null, start, end)
+			.stream()
+			.map((release) -> {
+				Map<String, Object> event = new HashMap<>();
+				String title = release.getProject() + " " + release.getName();
+				event.put("title", (release.getType() == Type.ENTERPRISE) ? title + " (Enterprise)" : title);
+				event.put("allDay", true);
+				event.put("start", release.getDate());
+				if (release.getUrl() != null) {
+					event.put("url", release.getUrl());
+				}
+				if (release.getStatus() == Status.CLOSED) {
+					event.put("backgroundColor", "#6db33f");
+				}
+				else if (release.getStatus() == Status.OPEN
+						&& LocalDate.now(ZoneId.of("Europe/London")).isAfter(LocalDate.parse(release.getDate()))) {
+					event.put("backgroundColor", "#d14");
+				}
+				return event;
+			})
+			.toList();
+		return events.objectMapper.writeValueAsBytes(mapped);
+	}
+
+	/**
+	 * State for the benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Events {
+
+		@Param({ "1000", "10000", "100000", "1000000" })
+		private int releases;
+
+		private final ObjectMapper objectMapper = new ObjectMapper();
+
+		private ReleaseRepository repository;
+
+		private ReleaseEventsController controller;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.repository = SyntheticReleases.repository(this.releases);
+			this.controller = new ReleaseEventsController(this.repository, this.objectMapper);
+		}
+
+	}
+
+}
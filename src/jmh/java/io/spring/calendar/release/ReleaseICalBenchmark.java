@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for serving calendars from {@link ReleaseICalController}, comparing
+ * rendering on every request, using a new controller each time, with serving the
+ * calendar that was rendered for the repository's current generation.
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseICalBenchmark {
+
+	@Benchmark
+	public byte[] renderOnEveryRequest(Calendars calendars) {
+		return new ReleaseICalController(calendars.repository).getCalendar(null);
+	}
+
+	@Benchmark
+	public byte[] renderOncePerGeneration(Calendars calendars) {
+		return calendars.cached.getCalendar(null);
+	}
+
+	/**
+	 * State for the benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Calendars {
+
+		@Param({ "1000", "10000" })
+		private int releases;
+
+		private InMemoryReleaseRepository repository;
+
+		private ReleaseICalController cached;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.repository = SyntheticReleases.repository(this.releases);
+			this.cached = new ReleaseICalController(this.repository);
+		}
+
+	}
+
+}
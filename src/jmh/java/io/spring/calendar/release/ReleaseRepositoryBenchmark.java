@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.calendar.release.Release.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for querying an {@link InMemoryReleaseRepository} for the releases in a
+ * month, the range that is requested by the calendar's month view.
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseRepositoryBenchmark {
+
+	@Benchmark
+	public List<Release> findAllInMonth(Releases releases) {
+		return releases.repository.findAllOfTypeInPeriod(null, releases.start, releases.end);
+	}
+
+	@Benchmark
+	public List<Release> findEnterpriseInMonth(Releases releases) {
+		return releases.repository.findAllOfTypeInPeriod(Type.ENTERPRISE, releases.start, releases.end);
+	}
+
+	@Benchmark
+	public List<Release> findAllOfType(Releases releases) {
+		return releases.repository.findAllOfType(Type.ENTERPRISE);
+	}
+
+	/**
+	 * State for the benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Releases {
+
+		@Param({ "1000", "10000", "100000", "1000000" })
+		private int releases;
+
+		private InMemoryReleaseRepository repository;
+
+		private Date start;
+
+		private Date end;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.repository = SyntheticReleases.repository(this.releases);
+			LocalDate month = LocalDate.of(2020, 6, 1);
+			this.start = Date.from(month.atStartOfDay(ZoneOffset.UTC).toInstant());
+			this.end = Date.from(month.plusMonths(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the throughput of reading the releases in a month from an
+ * {@link InMemoryReleaseRepository} while its releases are being set concurrently.
+ *
+ * @author agent (agent@local)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseRepositoryContentionBenchmark {
+
+	@Benchmark
+	@Group("readWhileSetting")
+	@GroupThreads(4)
+	public List<Release> read(Releases releases) {
+		return releases.repository.findAllOfTypeInPeriod(null, releases.start, releases.end);
+	}
+
+	@Benchmark
+	@Group("readWhileSetting")
+	@GroupThreads(1)
+	public void set(Releases releases) {
+		releases.repository.set(releases.next());
+	}
+
+	/**
+	 * State for the benchmark.
+	 */
+	@State(Scope.Group)
+	public static class Releases {
+
+		@Param({ "1000", "10000" })
+		private int releases;
+
+		private InMemoryReleaseRepository repository;
+
+		private List<Release> original;
+
+		private List<Release> updated;
+
+		private boolean toggle;
+
+		private Date start;
+
+		private Date end;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.original = SyntheticReleases.create(this.releases);
+			this.updated = this.original.subList(1, this.original.size());
+			this.repository = new InMemoryReleaseRepository((event) -> {
+			});
+			this.repository.set(this.original);
+			LocalDate month = LocalDate.of(2020, 6, 1);
+			this.start = Date.from(month.atStartOfDay(ZoneOffset.UTC).toInstant());
+			this.end = Date.from(month.plusMonths(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+		}
+
+		private List<Release> next() {
+			this.toggle = !this.toggle;
+			return (this.toggle) ? this.updated : this.original;
+		}
+
+	}
+
+}
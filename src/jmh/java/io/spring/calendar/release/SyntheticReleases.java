@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+
+/**
+ * Synthetic {@link Release Releases} for benchmarking. The releases belong to 100
+ * projects and are spread evenly over the ten years from the start of 2016. A third of
+ * them are open and a fifth of them are enterprise releases.
+ *
+ * @author agent (agent@local)
+ */
+final class SyntheticReleases {
+
+	/**
+	 * The date of the earliest release.
+	 */
+	static final LocalDate ORIGIN = LocalDate.of(2016, 1, 1);
+
+	private SyntheticReleases() {
+	}
+
+	/**
+	 * Creates the given {@code count} of releases.
+	 * @param count the number of releases
+	 * @return the releases
+	 */
+	static List<Release> create(int count) {
+		List<Release> releases = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			releases.add(new Release("Project " + (i % 100), "1.0." + i, ORIGIN.plusDays(i % 3650).toString(),
+					(i % 3 == 0) ? Status.OPEN : Status.CLOSED, null, (i % 5 == 0) ? Type.ENTERPRISE : Type.OSS));
+		}
+		return releases;
+	}
+
+	/**
+	 * Creates a repository that contains the given {@code count} of releases.
+	 * @param count the number of releases
+	 * @return the repository
+	 */
+	static InMemoryReleaseRepository repository(int count) {
+		InMemoryReleaseRepository repository = new InMemoryReleaseRepository((event) -> {
+		});
+		repository.set(create(count));
+		return repository;
+	}
+
+}
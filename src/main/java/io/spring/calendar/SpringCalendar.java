@@ -16,19 +16,8 @@
 
 package io.spring.calendar;
 
-import java.util.concurrent.TimeUnit;
-
-import org.apache.hc.client5.http.config.ConnectionConfig;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
-
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.web.client.RestTemplateCustomizer;
-import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
@@ -44,23 +33,4 @@ public class SpringCalendar {
 		SpringApplication.run(SpringCalendar.class, args);
 	}
 
-	@Bean
-	public RestTemplateCustomizer httpClientTimeoutRestTemplateCustomizer() {
-		return (restTemplate) -> {
-			CloseableHttpClient httpClient = HttpClientBuilder.create()
-				.setDefaultRequestConfig(
-						RequestConfig.custom().setConnectionRequestTimeout(30, TimeUnit.SECONDS).build())
-				.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
-					.setDefaultConnectionConfig(ConnectionConfig.custom()
-						.setConnectTimeout(30, TimeUnit.SECONDS)
-						.setSocketTimeout(30, TimeUnit.SECONDS)
-						.build())
-					.build())
-				.build();
-			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
-					httpClient);
-			restTemplate.setRequestFactory(requestFactory);
-		};
-	}
-
 }
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the responses to GET requests made to GitHub's API that is keyed by URL. For
+ * each URL, only the response's ETag, the URLs of the next and last pages, and the parsed
+ * content are retained. The cache can be persisted to a file so that, following a
+ * restart, requests can be revalidated rather than downloaded in full. Entries that are
+ * not used between two calls to {@link #prune} are removed.
+ *
+ * @author agent (agent@local)
+ */
+class ConditionalRequestCache implements MeterBinder {
+
+	private static final Logger log = LoggerFactory.getLogger(ConditionalRequestCache.class);
+
+	private static final int VERSION = 1;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Set<String> touched = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final ObjectMapper objectMapper;
+
+	private final Path file;
+
+	/**
+	 * Creates a new in-memory {@code ConditionalRequestCache}.
+	 */
+	ConditionalRequestCache() {
+		this(new ObjectMapper(), null);
+	}
+
+	/**
+	 * Creates a new {@code ConditionalRequestCache} that will be persisted to the given
+	 * {@code file} using the given {@code objectMapper}.
+	 * @param objectMapper the object mapper used to read and write the file
+	 * @param file the file, or {@code null} if the cache should not be persisted
+	 */
+	ConditionalRequestCache(ObjectMapper objectMapper, Path file) {
+		this.objectMapper = objectMapper;
+		this.file = file;
+	}
+
+	/**
+	 * Returns the cached response for the given {@code url}, or {@code null} if there is
+	 * no cached response.
+	 * @param <T> the type of the response's content
+	 * @param url the url
+	 * @param type the type of the response's content
+	 * @return the cached response or {@code null}
+	 */
+	<T> CachedResponse<T> get(String url, Class<T[]> type) {
+		this.touched.add(url);
+		Entry entry = this.entries.get(url);
+		if (entry == null) {
+			return null;
+		}
+		List<T> content = entry.content(this.objectMapper, type);
+		return new CachedResponse<>(entry.etag, entry.next, entry.last, content);
+	}
+
+	/**
+	 * Caches the given {@code response} to a request for the given {@code url}.
+	 * @param url the url
+	 * @param response the response
+	 */
+	void put(String url, CachedResponse<?> response) {
+		this.touched.add(url);
+		this.entries.put(url, new Entry(response.etag(), response.next(), response.last(), response.content()));
+	}
+
+	/**
+	 * Removes any cached response to a request for the given {@code url}.
+	 * @param url the url
+	 */
+	void remove(String url) {
+		this.entries.remove(url);
+	}
+
+	/**
+	 * Records that a cached response was used as the server reported that it had not
+	 * been modified.
+	 */
+	void recordHit() {
+		this.hits.incrementAndGet();
+	}
+
+	/**
+	 * Records that a cached response could not be used and the response was downloaded
+	 * in full.
+	 */
+	void recordMiss() {
+		this.misses.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of requests that have been answered from the cache.
+	 * @return the number of hits
+	 */
+	long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Returns the number of requests that could not be answered from the cache.
+	 * @return the number of misses
+	 */
+	long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Returns the number of URLs for which a response has been cached.
+	 * @return the size of the cache
+	 */
+	int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Removes the entries whose URL has not been requested since the cache was last
+	 * pruned. Entries whose URL matches {@code retain}, and the entries for the pages
+	 * that follow them, are kept even if they have not been requested.
+	 * @param retain predicate for the URLs of entries that should be kept
+	 * @return the number of entries that were removed
+	 */
+	int prune(Predicate<String> retain) {
+		Set<String> kept = new HashSet<>(this.touched);
+		Deque<String> pending = new ArrayDeque<>();
+		this.entries.keySet().stream().filter(retain).forEach(pending::add);
+		Set<String> followed = new HashSet<>();
+		while (!pending.isEmpty()) {
+			String url = pending.pop();
+			Entry entry = this.entries.get(url);
+			if (followed.add(url) && entry != null) {
+				kept.add(url);
+				if (entry.next != null) {
+					pending.push(entry.next);
+				}
+			}
+		}
+		int size = this.entries.size();
+		this.entries.keySet().retainAll(kept);
+		this.touched.clear();
+		return size - this.entries.size();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("github.cache.requests", this, ConditionalRequestCache::getHits)
+			.description("Requests to GitHub that were looked up in the conditional request cache")
+			.tag("result", "hit")
+			.register(registry);
+		FunctionCounter.builder("github.cache.requests", this, ConditionalRequestCache::getMisses)
+			.description("Requests to GitHub that were looked up in the conditional request cache")
+			.tag("result", "miss")
+			.register(registry);
+		Gauge.builder("github.cache.size", this, ConditionalRequestCache::size)
+			.description("URLs for which a response is held in the conditional request cache")
+			.register(registry);
+	}
+
+	/**
+	 * Loads the cache's entries from its file. If the file does not exist or cannot be
+	 * read, the cache is left empty.
+	 */
+	void load() {
+		if (this.file == null || !Files.isRegularFile(this.file)) {
+			return;
+		}
+		try {
+			PersistedCache persisted = this.objectMapper.readValue(this.file.toFile(), PersistedCache.class);
+			if (persisted.version != VERSION) {
+				log.info("Ignoring conditional request cache {} with unsupported version {}", this.file,
+						persisted.version);
+				return;
+			}
+			persisted.entries.forEach((url, entry) -> this.entries.putIfAbsent(url, entry));
+			log.info("Loaded {} cached response(s) from {}", persisted.entries.size(), this.file);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to load conditional request cache from {}", this.file, ex);
+		}
+	}
+
+	/**
+	 * Saves the cache's entries to its file. The file is written to a temporary file that
+	 * is then moved into place so that a partially written cache is never read.
+	 */
+	void save() {
+		if (this.file == null) {
+			return;
+		}
+		try {
+			Path parent = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+			try {
+				this.objectMapper.writeValue(temp.toFile(),
+						new PersistedCache(VERSION, new LinkedHashMap<>(this.entries)));
+				Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Failed to save conditional request cache to {}", this.file, ex);
+		}
+	}
+
+	/**
+	 * A cached response.
+	 *
+	 * @param <T> the type of the response's content
+	 * @param etag the response's ETag
+	 * @param next the URL of the next page or {@code null}
+	 * @param last the URL of the last page or {@code null}
+	 * @param content the response's content
+	 */
+	record CachedResponse<T>(String etag, String next, String last, List<T> content) {
+
+	}
+
+	/**
+	 * An entry in the cache. Entries that have been loaded from a file hold their content
+	 * as a JSON tree until it is first requested.
+	 */
+	private static final class Entry {
+
+		private final String etag;
+
+		private final String next;
+
+		private final String last;
+
+		private volatile Object content;
+
+		private Entry(String etag, String next, String last, Object content) {
+			this.etag = etag;
+			this.next = next;
+			this.last = last;
+			this.content = content;
+		}
+
+		@JsonCreator
+		private static Entry fromJson(@JsonProperty("etag") String etag, @JsonProperty("next") String next,
+				@JsonProperty("last") String last, @JsonProperty("content") JsonNode content) {
+			return new Entry(etag, next, last, content);
+		}
+
+		@JsonProperty("etag")
+		private String getEtag() {
+			return this.etag;
+		}
+
+		@JsonProperty("next")
+		private String getNext() {
+			return this.next;
+		}
+
+		@JsonProperty("last")
+		private String getLast() {
+			return this.last;
+		}
+
+		@JsonProperty("content")
+		private Object getContent() {
+			return this.content;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> List<T> content(ObjectMapper objectMapper, Class<T[]> type) {
+			Object current = this.content;
+			if (current instanceof List<?> list) {
+				return (List<T>) list;
+			}
+			List<T> converted = List.of(objectMapper.convertValue(current, type));
+			this.content = converted;
+			return converted;
+		}
+
+	}
+
+	/**
+	 * The persisted form of the cache.
+	 */
+	private static final class PersistedCache {
+
+		private final int version;
+
+		private final Map<String, Entry> entries;
+
+		@JsonCreator
+		private PersistedCache(@JsonProperty("version") int version,
+				@JsonProperty("entries") Map<String, Entry> entries) {
+			this.version = version;
+			this.entries = (entries != null) ? entries : Map.of();
+		}
+
+		@JsonProperty("version")
+		private int getVersion() {
+			return this.version;
+		}
+
+		@JsonProperty("entries")
+		private Map<String, Entry> getEntries() {
+			return this.entries;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,26 @@
 
 package io.spring.calendar.github;
 
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spring.calendar.github.GitHubProperties.RateLimit;
+import io.spring.calendar.github.GitHubProperties.Refresh;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 
 /**
  * Configuration for GitHub-related functionality.
@@ -37,13 +53,77 @@ class GitHubConfiguration {
 	}
 
 	@Bean
-	GitHubOperations gitHubOperations(RestTemplateBuilder restTemplateBuilder) {
-		return new GitHubTemplate(this.gitHubProperties.getToken(), new RegexLinkParser(), restTemplateBuilder);
+	RestTemplateCustomizer httpClientRestTemplateCustomizer() {
+		int maxConnections = 2 * this.gitHubProperties.getConcurrency();
+		return (restTemplate) -> {
+			CloseableHttpClient httpClient = HttpClientBuilder.create()
+				.setDefaultRequestConfig(
+						RequestConfig.custom().setConnectionRequestTimeout(30, TimeUnit.SECONDS).build())
+				.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+					.setMaxConnPerRoute(maxConnections)
+					.setMaxConnTotal(maxConnections)
+					.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(30, TimeUnit.SECONDS)
+						.setSocketTimeout(30, TimeUnit.SECONDS)
+						.build())
+					.build())
+				.build();
+			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+					httpClient);
+			restTemplate.setRequestFactory(requestFactory);
+		};
+	}
+
+	@Bean(initMethod = "load", destroyMethod = "save")
+	ConditionalRequestCache conditionalRequestCache(ObjectMapper objectMapper) {
+		return new ConditionalRequestCache(objectMapper, this.gitHubProperties.getCache().getFile());
+	}
+
+	@Bean
+	RateLimitBudget rateLimitBudget() {
+		RateLimit rateLimit = this.gitHubProperties.getRateLimit();
+		return new RateLimitBudget(Clock.systemUTC(), rateLimit.getCycle(), rateLimit.getReserve());
+	}
+
+	@Bean
+	RefreshScheduler refreshScheduler() {
+		Refresh refresh = this.gitHubProperties.getRefresh();
+		return new RefreshScheduler(Clock.systemUTC(), refresh.getMinimumInterval(), refresh.getMaximumInterval(),
+				refresh.getDueSoon(), refresh.getRecentChange());
 	}
 
 	@Bean
-	GitHubReleaseScheduleSource gitHubReleaseScheduleSource(GitHubOperations gitHubOperations) {
-		return new GitHubReleaseScheduleSource(gitHubOperations, this.gitHubProperties.getOrganizations());
+	MilestoneHistory milestoneHistory() {
+		return new MilestoneHistory(Clock.systemUTC(),
+				this.gitHubProperties.getMilestoneHistory().getFullRefreshInterval());
+	}
+
+	@Bean
+	GitHubOperations gitHubOperations(RestTemplateBuilder restTemplateBuilder, ConditionalRequestCache cache,
+			RateLimitBudget rateLimitBudget, MilestoneHistory milestoneHistory, MeterRegistry meterRegistry) {
+		String token = this.gitHubProperties.getToken();
+		restTemplateBuilder = restTemplateBuilder.additionalInterceptors(rateLimitBudget,
+				new GitHubRequestMetrics(meterRegistry));
+		return switch (this.gitHubProperties.getApi()) {
+			case GRAPHQL ->
+				new GitHubGraphQlTemplate(token, this.gitHubProperties.getGraphqlUrl(), restTemplateBuilder);
+			case REST -> new GitHubTemplate(token, new SinglePassLinkParser(), restTemplateBuilder, cache,
+					createExecutor("github-page-"), milestoneHistory);
+		};
+	}
+
+	@Bean
+	GitHubReleaseScheduleSource gitHubReleaseScheduleSource(GitHubOperations gitHubOperations,
+			ConditionalRequestCache cache, RateLimitBudget rateLimitBudget, RefreshScheduler refreshScheduler,
+			MeterRegistry meterRegistry) {
+		return new GitHubReleaseScheduleSource(gitHubOperations, this.gitHubProperties.getOrganizations(),
+				createExecutor("github-"), cache, rateLimitBudget, refreshScheduler, meterRegistry);
+	}
+
+	private SimpleAsyncTaskExecutor createExecutor(String threadNamePrefix) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setConcurrencyLimit(this.gitHubProperties.getConcurrency());
+		return executor;
 	}
 
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.spring.calendar.github.Milestone.State;
+import io.spring.calendar.github.Repository.Visibility;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Central class for interacting with GitHub's GraphQL API. Repositories are retrieved in
+ * batches with the first page of each repository's milestones included in the same
+ * query. Those milestones are then used by {@link #getMilestones(Repository)}, so a
+ * follow-up query is only needed for a repository with more than one page of
+ * milestones.
+ *
+ * @author agent (agent@local)
+ */
+class GitHubGraphQlTemplate implements GitHubOperations {
+
+	private static final String REPOSITORIES_QUERY = """
+			query($organization: String!, $cursor: String) {
+			  organization(login: $organization) {
+			    repositories(first: 100, after: $cursor) {
+			      pageInfo { hasNextPage endCursor }
+			      nodes {
+			        name
+			        nameWithOwner
+			        url
+			        visibility
+			        isArchived
+			        hasIssuesEnabled
+			        updatedAt
+			        pushedAt
+			        milestones(first: 100) {
+			          pageInfo { hasNextPage endCursor }
+			          nodes { title dueOn state number }
+			        }
+			      }
+			    }
+			  }
+			}""";
+
+	private static final String MILESTONES_QUERY = """
+			query($owner: String!, $name: String!, $cursor: String) {
+			  repository(owner: $owner, name: $name) {
+			    milestones(first: 100, after: $cursor) {
+			      pageInfo { hasNextPage endCursor }
+			      nodes { title dueOn state number }
+			    }
+			  }
+			}""";
+
+	private final Map<String, Connection<Milestone>> prefetchedMilestones = new ConcurrentHashMap<>();
+
+	private final RestOperations rest;
+
+	private final URI url;
+
+	/**
+	 * Creates a new {@code GitHubGraphQlTemplate} that will use the given {@code token}
+	 * to authenticate when sending queries to the GraphQL API at the given {@code url}.
+	 * It will use a {@link RestTemplate} created from the given
+	 * {@code restTemplateBuilder}.
+	 * @param token the token
+	 * @param url the url of the GraphQL API
+	 * @param restTemplateBuilder the builder
+	 */
+	GitHubGraphQlTemplate(String token, URI url, RestTemplateBuilder restTemplateBuilder) {
+		if (StringUtils.hasText(token)) {
+			restTemplateBuilder = restTemplateBuilder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		}
+		this.rest = restTemplateBuilder.errorHandler(new GitHubResponseErrorHandler()).build();
+		this.url = url;
+	}
+
+	@Override
+	public Page<Milestone> getMilestones(Repository repository) {
+		Function<String, Connection<Milestone>> query = (cursor) -> queryMilestones(repository, cursor);
+		Connection<Milestone> prefetched = this.prefetchedMilestones.remove(repository.getFullName());
+		return page((prefetched != null) ? prefetched : query.apply(null), query);
+	}
+
+	@Override
+	public Page<Repository> getRepositories(String organization) {
+		Function<String, Connection<Repository>> query = (cursor) -> queryRepositories(organization, cursor);
+		return page(query.apply(null), query);
+	}
+
+	private <T> Page<T> page(Connection<T> connection, Function<String, Connection<T>> query) {
+		Supplier<Page<T>> next = (connection.endCursor() != null)
+				? SingletonSupplier.of(() -> page(query.apply(connection.endCursor()), query)) : () -> null;
+		return new StandardPage<>(connection.nodes(), this.url.toString(), null, next);
+	}
+
+	private Connection<Repository> queryRepositories(String organization, String cursor) {
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("organization", organization);
+		variables.put("cursor", cursor);
+		JsonNode repositories = query(REPOSITORIES_QUERY, variables).path("organization").path("repositories");
+		List<Repository> nodes = new ArrayList<>();
+		for (JsonNode node : repositories.path("nodes")) {
+			Repository repository = asRepository(node);
+			this.prefetchedMilestones.put(repository.getFullName(), asMilestones(node.path("milestones")));
+			nodes.add(repository);
+		}
+		return new Connection<>(nodes, endCursor(repositories));
+	}
+
+	private Connection<Milestone> queryMilestones(Repository repository, String cursor) {
+		String fullName = repository.getFullName();
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("owner", fullName.substring(0, fullName.indexOf('/')));
+		variables.put("name", repository.getName());
+		variables.put("cursor", cursor);
+		return asMilestones(query(MILESTONES_QUERY, variables).path("repository").path("milestones"));
+	}
+
+	private JsonNode query(String query, Map<String, Object> variables) {
+		JsonNode response = this.rest.postForObject(this.url, Map.of("query", query, "variables", variables),
+				JsonNode.class);
+		if (response == null) {
+			throw new IllegalStateException("Query returned no response");
+		}
+		JsonNode errors = response.path("errors");
+		if (!errors.isEmpty()) {
+			throw new IllegalStateException("Query failed: " + errors);
+		}
+		return response.path("data");
+	}
+
+	private Repository asRepository(JsonNode node) {
+		String fullName = node.path("nameWithOwner").asText();
+		return new Repository(node.path("name").asText(), fullName,
+				"https://api.github.com/repos/" + fullName + "/milestones", node.path("url").asText(),
+				Visibility.valueOf(node.path("visibility").asText()), node.path("isArchived").asBoolean(),
+				node.path("hasIssuesEnabled").asBoolean(true), instant(node.path("updatedAt").asText(null)),
+				instant(node.path("pushedAt").asText(null)));
+	}
+
+	private Instant instant(String value) {
+		return (value != null) ? Instant.parse(value) : null;
+	}
+
+	private Connection<Milestone> asMilestones(JsonNode milestones) {
+		List<Milestone> nodes = new ArrayList<>();
+		for (JsonNode node : milestones.path("nodes")) {
+			String dueOn = node.path("dueOn").asText(null);
+			nodes.add(new Milestone(node.path("title").asText(), (dueOn != null) ? ZonedDateTime.parse(dueOn) : null,
+					State.valueOf(node.path("state").asText()), node.path("number").asLong()));
+		}
+		return new Connection<>(nodes, endCursor(milestones));
+	}
+
+	private String endCursor(JsonNode connection) {
+		JsonNode pageInfo = connection.path("pageInfo");
+		return pageInfo.path("hasNextPage").asBoolean() ? pageInfo.path("endCursor").asText() : null;
+	}
+
+	/**
+	 * A page of nodes from a GraphQL connection.
+	 *
+	 * @param <T> the type of the nodes
+	 * @param nodes the nodes
+	 * @param endCursor the cursor for the next page or {@code null} if this is the last
+	 * page
+	 */
+	private record Connection<T>(List<T> nodes, String endCursor) {
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,21 +24,19 @@ package io.spring.calendar.github;
 interface GitHubOperations {
 
 	/**
-	 * Returns the milestones in the given {@code repository}.
+	 * Returns the milestones in the given {@code repository}. Each page is requested
+	 * conditionally when a cached response for it is available.
 	 * @param repository the repository
-	 * @param earlierResponse the first page of an earlier response that can be used to
-	 * perform conditional requests, or {@code null}.
 	 * @return the page of milestones
 	 */
-	Page<Milestone> getMilestones(Repository repository, Page<Milestone> earlierResponse);
+	Page<Milestone> getMilestones(Repository repository);
 
 	/**
-	 * Returns the repositories of the given {@code organization}.
+	 * Returns the repositories of the given {@code organization}. Each page is
+	 * requested conditionally when a cached response for it is available.
 	 * @param organization the name of the organization
-	 * @param earlierResponse the first page of an earlier response that can be used to
-	 * perform conditional requests, or {@code null}.
 	 * @return the page of repositories
 	 */
-	Page<Repository> getRepositories(String organization, Page<Repository> earlierResponse);
+	Page<Repository> getRepositories(String organization);
 
 }
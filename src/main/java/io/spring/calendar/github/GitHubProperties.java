@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,14 @@
 
 package io.spring.calendar.github;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * Configuration properties for accessing GitHub.
@@ -33,9 +37,37 @@ class GitHubProperties {
 
 	private final List<Organization> organizations;
 
-	GitHubProperties(String token, List<Organization> organizations) {
+	private final int concurrency;
+
+	private final Cache cache;
+
+	private final Api api;
+
+	private final URI graphqlUrl;
+
+	private final RateLimit rateLimit;
+
+	private final Refresh refresh;
+
+	private final Webhook webhook;
+
+	private final MilestoneHistory milestoneHistory;
+
+	GitHubProperties(String token, List<Organization> organizations, @DefaultValue("8") int concurrency,
+			@DefaultValue Cache cache, @DefaultValue("rest") Api api,
+			@DefaultValue("https://api.github.com/graphql") URI graphqlUrl, @DefaultValue RateLimit rateLimit,
+			@DefaultValue Refresh refresh, @DefaultValue Webhook webhook,
+			@DefaultValue MilestoneHistory milestoneHistory) {
 		this.token = token;
 		this.organizations = organizations;
+		this.concurrency = concurrency;
+		this.cache = cache;
+		this.api = api;
+		this.graphqlUrl = graphqlUrl;
+		this.rateLimit = rateLimit;
+		this.refresh = refresh;
+		this.webhook = webhook;
+		this.milestoneHistory = milestoneHistory;
 	}
 
 	String getToken() {
@@ -46,6 +78,211 @@ class GitHubProperties {
 		return this.organizations;
 	}
 
+	/**
+	 * Returns the maximum number of repositories whose milestones are fetched
+	 * concurrently. The same limit applies to the pages of results that are fetched
+	 * concurrently once the first page has been retrieved. The HTTP client's connection
+	 * pool is sized so that every one of these requests can have a connection.
+	 * @return the concurrency
+	 */
+	int getConcurrency() {
+		return this.concurrency;
+	}
+
+	Cache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Returns the API that is used to retrieve repositories and their milestones.
+	 * @return the api
+	 */
+	Api getApi() {
+		return this.api;
+	}
+
+	/**
+	 * Returns the URL of GitHub's GraphQL API.
+	 * @return the GraphQL API's URL
+	 */
+	URI getGraphqlUrl() {
+		return this.graphqlUrl;
+	}
+
+	RateLimit getRateLimit() {
+		return this.rateLimit;
+	}
+
+	Refresh getRefresh() {
+		return this.refresh;
+	}
+
+	Webhook getWebhook() {
+		return this.webhook;
+	}
+
+	MilestoneHistory getMilestoneHistory() {
+		return this.milestoneHistory;
+	}
+
+	/**
+	 * The APIs that can be used to retrieve repositories and their milestones.
+	 */
+	enum Api {
+
+		/**
+		 * GitHub's REST API.
+		 */
+		REST,
+
+		/**
+		 * GitHub's GraphQL API.
+		 */
+		GRAPHQL
+
+	}
+
+	static class Cache {
+
+		private final Path file;
+
+		Cache(Path file) {
+			this.file = file;
+		}
+
+		/**
+		 * Returns the file to which responses from GitHub are cached so that they can be
+		 * revalidated following a restart.
+		 * @return the cache file or {@code null} if the cache should not be persisted
+		 */
+		Path getFile() {
+			return this.file;
+		}
+
+	}
+
+	static class RateLimit {
+
+		private final Duration cycle;
+
+		private final int reserve;
+
+		RateLimit(@DefaultValue("5m") Duration cycle, @DefaultValue("100") int reserve) {
+			this.cycle = cycle;
+			this.reserve = reserve;
+		}
+
+		/**
+		 * Returns the interval between update cycles across which the remaining requests
+		 * are spread.
+		 * @return the interval between update cycles
+		 */
+		Duration getCycle() {
+			return this.cycle;
+		}
+
+		/**
+		 * Returns the number of requests that are held in reserve and never used for
+		 * routine polling.
+		 * @return the number of reserved requests
+		 */
+		int getReserve() {
+			return this.reserve;
+		}
+
+	}
+
+	static class Refresh {
+
+		private final Duration minimumInterval;
+
+		private final Duration maximumInterval;
+
+		private final Duration dueSoon;
+
+		private final Duration recentChange;
+
+		Refresh(@DefaultValue("5m") Duration minimumInterval, @DefaultValue("6h") Duration maximumInterval,
+				@DefaultValue("14d") Duration dueSoon, @DefaultValue("1d") Duration recentChange) {
+			this.minimumInterval = minimumInterval;
+			this.maximumInterval = maximumInterval;
+			this.dueSoon = dueSoon;
+			this.recentChange = recentChange;
+		}
+
+		/**
+		 * Returns the interval at which hot repositories are refreshed.
+		 * @return the minimum interval
+		 */
+		Duration getMinimumInterval() {
+			return this.minimumInterval;
+		}
+
+		/**
+		 * Returns the longest interval between refreshes of a cold repository.
+		 * @return the maximum interval
+		 */
+		Duration getMaximumInterval() {
+			return this.maximumInterval;
+		}
+
+		/**
+		 * Returns how far ahead an open milestone must be due for its repository to be
+		 * hot.
+		 * @return the due soon period
+		 */
+		Duration getDueSoon() {
+			return this.dueSoon;
+		}
+
+		/**
+		 * Returns how long a repository remains hot after its milestones have changed.
+		 * @return the recent change period
+		 */
+		Duration getRecentChange() {
+			return this.recentChange;
+		}
+
+	}
+
+	static class Webhook {
+
+		private final String secret;
+
+		Webhook(String secret) {
+			this.secret = secret;
+		}
+
+		/**
+		 * Returns the secret that is used to verify the signature of webhook deliveries.
+		 * The webhook endpoint is only available when a secret has been configured.
+		 * @return the secret or {@code null}
+		 */
+		String getSecret() {
+			return this.secret;
+		}
+
+	}
+
+	static class MilestoneHistory {
+
+		private final Duration fullRefreshInterval;
+
+		MilestoneHistory(@DefaultValue("1d") Duration fullRefreshInterval) {
+			this.fullRefreshInterval = fullRefreshInterval;
+		}
+
+		/**
+		 * Returns the interval after which all of a repository's milestones, rather than
+		 * only those that are open or have recently been closed, are retrieved again.
+		 * @return the full refresh interval
+		 */
+		Duration getFullRefreshInterval() {
+			return this.fullRefreshInterval;
+		}
+
+	}
+
 	static class Organization {
 
 		private final String name;
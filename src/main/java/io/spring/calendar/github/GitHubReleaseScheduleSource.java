@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,14 +19,29 @@ package io.spring.calendar.github;
 import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.spring.calendar.github.GitHubProperties.Organization;
 import io.spring.calendar.github.GitHubProperties.Transform;
 import io.spring.calendar.github.Milestone.State;
@@ -36,36 +51,237 @@ import io.spring.calendar.release.Release.Status;
 import io.spring.calendar.release.Release.Type;
 import io.spring.calendar.release.ReleaseSchedule;
 import io.spring.calendar.release.ReleaseScheduleSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.util.Assert;
 
 /**
- * A {@link ReleaseScheduleSource} for projects managed on GitHub.
+ * A {@link ReleaseScheduleSource} for projects managed on GitHub. The milestones of each
+ * repository are fetched using an {@link Executor}, allowing the number of repositories
+ * that are processed concurrently to be controlled. Archived repositories and those with
+ * issues disabled are ignored. Only the repositories that the {@link RefreshScheduler}
+ * considers to be due, or whose {@code updated_at} or {@code pushed_at} metadata has
+ * changed since their milestones were last fetched, are fetched. When the
+ * {@link RateLimitBudget} does not allow every due repository to be fetched, they are
+ * fetched in {@link RefreshScheduler#getPriority priority} order, with repositories whose
+ * metadata has changed first. Repositories that are not fetched reuse their previously
+ * fetched milestones. The release schedule of a repository that is not fetched and whose
+ * milestones have never been fetched is {@link ReleaseSchedule#unknown unknown}. Once
+ * all of the schedules have been retrieved, the {@link ConditionalRequestCache} is pruned
+ * of responses that are no longer used, keeping those of the repositories that were not
+ * fetched, and saved. The time taken to update each organization, from the start of the
+ * update until its repositories' schedules have been retrieved, is recorded by the
+ * {@code github.organization.update} timer.
  *
  * @author Andy Wilkinson
  */
 class GitHubReleaseScheduleSource implements ReleaseScheduleSource {
 
-	private final Map<String, Page<Milestone>> earlierMilestones = new HashMap<>();
-
-	private final Map<String, Page<Repository>> earlierRepositories = new HashMap<>();
+	private static final Logger log = LoggerFactory.getLogger(GitHubReleaseScheduleSource.class);
 
 	private final List<Organization> organizations;
 
 	private final GitHubOperations gitHub;
 
+	private final Executor executor;
+
+	private final ConditionalRequestCache cache;
+
+	private final RateLimitBudget budget;
+
+	private final RefreshScheduler refreshScheduler;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, RepositoryMetadata> fetchedMetadata = new ConcurrentHashMap<>();
+
+	private volatile Map<String, Project> projects = Collections.emptyMap();
+
 	GitHubReleaseScheduleSource(GitHubOperations gitHub, List<Organization> organizations) {
+		this(gitHub, organizations, Runnable::run, new ConditionalRequestCache(), new RateLimitBudget(),
+				new RefreshScheduler(Clock.systemUTC()));
+	}
+
+	GitHubReleaseScheduleSource(GitHubOperations gitHub, List<Organization> organizations, Executor executor,
+			ConditionalRequestCache cache, RateLimitBudget budget, RefreshScheduler refreshScheduler) {
+		this(gitHub, organizations, executor, cache, budget, refreshScheduler, new SimpleMeterRegistry());
+	}
+
+	GitHubReleaseScheduleSource(GitHubOperations gitHub, List<Organization> organizations, Executor executor,
+			ConditionalRequestCache cache, RateLimitBudget budget, RefreshScheduler refreshScheduler,
+			MeterRegistry meterRegistry) {
 		this.gitHub = gitHub;
 		this.organizations = organizations;
+		this.executor = executor;
+		this.cache = cache;
+		this.budget = budget;
+		this.refreshScheduler = refreshScheduler;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
 	public List<ReleaseSchedule> get() {
-		return this.organizations.stream()
-			.flatMap(this::getRepositories)
-			.filter(Project::include)
-			.map(this::createReleaseSchedule)
-			.toList();
+		Timer.Sample sample = Timer.start(this.meterRegistry);
+		Map<Organization, List<Project>> projectsByOrganization = new LinkedHashMap<>();
+		for (Organization organization : this.organizations) {
+			try {
+				List<Project> organizationProjects = getRepositories(organization).filter(Project::include).toList();
+				projectsByOrganization.put(organization, organizationProjects);
+			}
+			catch (RuntimeException ex) {
+				recordOrganizationUpdate(sample, organization, ex);
+				throw ex;
+			}
+		}
+		List<Project> projects = projectsByOrganization.values().stream().flatMap(List::stream).toList();
+		Map<String, Project> projectsByRepository = new LinkedHashMap<>();
+		projects.forEach((project) -> projectsByRepository.put(project.getRepository().getFullName(), project));
+		this.projects = projectsByRepository;
+		Set<Project> toFetch = selectProjectsToFetch(projects);
+		Map<Project, CompletableFuture<ReleaseSchedule>> releaseSchedules = new LinkedHashMap<>();
+		for (Project project : projects) {
+			if (toFetch.contains(project)) {
+				releaseSchedules.put(project,
+						CompletableFuture.supplyAsync(() -> fetchReleaseSchedule(project), this.executor));
+			}
+			else {
+				String repository = project.getRepository().getFullName();
+				List<Milestone> milestones = this.refreshScheduler.getMilestones(repository);
+				ReleaseSchedule releaseSchedule = (milestones != null) ? createReleaseSchedule(project, milestones)
+						: ReleaseSchedule.unknown(project.getName());
+				releaseSchedules.put(project, CompletableFuture.completedFuture(releaseSchedule));
+			}
+		}
+		projectsByOrganization.forEach((organization, organizationProjects) -> CompletableFuture
+			.allOf(organizationProjects.stream().map(releaseSchedules::get).toArray(CompletableFuture[]::new))
+			.whenComplete((result, ex) -> recordOrganizationUpdate(sample, organization, ex)));
+		log.info("Refreshing {} of {} repositories. {} rate limited request(s) remaining", toFetch.size(),
+				projects.size(), this.budget.getRemaining());
+		List<ReleaseSchedule> result = releaseSchedules.values().stream().map(this::join).toList();
+		pruneCache(projects, toFetch);
+		this.cache.save();
+		return result;
+	}
+
+	private void pruneCache(List<Project> projects, Set<Project> fetched) {
+		Set<String> retained = projects.stream()
+			.filter((project) -> !fetched.contains(project))
+			.map((project) -> project.getRepository().getMilestonesUrl().toString())
+			.collect(Collectors.toSet());
+		int pruned = this.cache.prune((url) -> retained.contains(withoutQuery(url)));
+		if (pruned > 0) {
+			log.info("Pruned {} unused response(s) from the conditional request cache", pruned);
+		}
+	}
+
+	private static String withoutQuery(String url) {
+		int query = url.indexOf('?');
+		return (query >= 0) ? url.substring(0, query) : url;
+	}
+
+	private void recordOrganizationUpdate(Timer.Sample sample, Organization organization, Throwable failure) {
+		sample.stop(Timer.builder("github.organization.update")
+			.description("Time taken to retrieve the release schedules of an organization's repositories")
+			.tag("organization", organization.getName())
+			.tag("outcome", (failure != null) ? "FAILURE" : "SUCCESS")
+			.register(this.meterRegistry));
+	}
+
+	/**
+	 * Applies a change to one of a repository's milestones that has been made since its
+	 * milestones were last fetched and returns the resulting release schedule of the
+	 * repository's project. A project's release schedule combines the releases from all
+	 * of its repositories.
+	 * @param repository the full name of the repository
+	 * @param milestone the milestone that has been created or changed
+	 * @param deleted whether the milestone has been deleted
+	 * @return the project's release schedule or {@code null} if the repository is not
+	 * known
+	 */
+	ReleaseSchedule applyMilestoneChange(String repository, Milestone milestone, boolean deleted) {
+		Map<String, Project> currentProjects = this.projects;
+		Project project = currentProjects.get(repository);
+		if (project == null) {
+			return null;
+		}
+		List<Milestone> updated = this.refreshScheduler.updateMilestones(repository,
+				(milestones) -> applyMilestoneChange(milestones, milestone, deleted));
+		if (updated == null) {
+			return null;
+		}
+		List<Release> releases = new ArrayList<>();
+		for (Project candidate : currentProjects.values()) {
+			if (candidate.getName().equals(project.getName())) {
+				List<Milestone> milestones = this.refreshScheduler
+					.getMilestones(candidate.getRepository().getFullName());
+				if (milestones != null) {
+					releases.addAll(getReleases(candidate, milestones));
+				}
+			}
+		}
+		return new ReleaseSchedule(project.getName(), releases);
+	}
+
+	private List<Milestone> applyMilestoneChange(List<Milestone> milestones, Milestone change, boolean deleted) {
+		List<Milestone> result = new ArrayList<>(milestones.size() + 1);
+		boolean replaced = false;
+		for (Milestone milestone : milestones) {
+			if (milestone.getNumber() != change.getNumber()) {
+				result.add(milestone);
+			}
+			else if (!deleted) {
+				result.add(change);
+				replaced = true;
+			}
+		}
+		if (!deleted && !replaced) {
+			result.add(change);
+		}
+		return result;
+	}
+
+	private Set<Project> selectProjectsToFetch(List<Project> projects) {
+		List<Project> due = projects.stream().filter(this::isDue).toList();
+		int allowance = this.budget.allowance();
+		if (allowance >= due.size()) {
+			return new HashSet<>(due);
+		}
+		return due.stream()
+			.sorted(Comparator.comparingInt(this::getPriority).thenComparing(this::getLastRefreshed))
+			.limit(allowance)
+			.collect(Collectors.toSet());
+	}
+
+	private boolean isDue(Project project) {
+		return hasMetadataChanged(project) || this.refreshScheduler.isDue(project.getRepository().getFullName());
+	}
+
+	private boolean hasMetadataChanged(Project project) {
+		Repository repository = project.getRepository();
+		RepositoryMetadata fetched = this.fetchedMetadata.get(repository.getFullName());
+		return fetched != null && !fetched.equals(RepositoryMetadata.of(repository));
+	}
+
+	private int getPriority(Project project) {
+		return hasMetadataChanged(project) ? 0
+				: this.refreshScheduler.getPriority(project.getRepository().getFullName());
+	}
+
+	private Instant getLastRefreshed(Project project) {
+		return this.refreshScheduler.getLastRefreshed(project.getRepository().getFullName());
+	}
+
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
 	}
 
 	private Stream<Project> getRepositories(Organization organization) {
@@ -76,9 +292,7 @@ class GitHubReleaseScheduleSource implements ReleaseScheduleSource {
 			Assert.isNull(existing, () -> "Found duplicate transform for %s/%s".formatted(organization.getName(),
 					transform.getRepository()));
 		}
-		Page<Repository> page = this.gitHub.getRepositories(organizationName,
-				this.earlierRepositories.get(organizationName));
-		this.earlierRepositories.put(organizationName, this.earlierRepositories.get(organizationName));
+		Page<Repository> page = this.gitHub.getRepositories(organizationName);
 		return collectContent(page).stream()
 			.map((repository) -> asProject(repository, transforms.get(repository.getName())));
 	}
@@ -87,16 +301,21 @@ class GitHubReleaseScheduleSource implements ReleaseScheduleSource {
 		return (transform != null) ? Project.from(repository, transform) : Project.from(repository);
 	}
 
-	private ReleaseSchedule createReleaseSchedule(Project project) {
-		Page<Milestone> page = this.gitHub.getMilestones(project.getRepository(),
-				this.earlierMilestones.get(project.getRepository().getFullName()));
-		this.earlierMilestones.put(project.getRepository().getFullName(), page);
-		List<Release> releases = getReleases(project, page);
+	private ReleaseSchedule fetchReleaseSchedule(Project project) {
+		Repository repository = project.getRepository();
+		List<Milestone> milestones = collectContent(this.gitHub.getMilestones(repository));
+		this.refreshScheduler.refreshed(repository.getFullName(), milestones);
+		this.fetchedMetadata.put(repository.getFullName(), RepositoryMetadata.of(repository));
+		return createReleaseSchedule(project, milestones);
+	}
+
+	private ReleaseSchedule createReleaseSchedule(Project project, List<Milestone> milestones) {
+		List<Release> releases = getReleases(project, milestones);
 		return new ReleaseSchedule(project.getName(), releases);
 	}
 
-	private List<Release> getReleases(Project project, Page<Milestone> page) {
-		return collectContent(page).stream()
+	private List<Release> getReleases(Project project, List<Milestone> milestones) {
+		return milestones.stream()
 			.filter(this::hasReleaseDate)
 			.map((Milestone milestone) -> createRelease(project, milestone))
 			.toList();
@@ -152,6 +371,9 @@ class GitHubReleaseScheduleSource implements ReleaseScheduleSource {
 		}
 
 		private boolean include() {
+			if (this.repository.isArchived() || !this.repository.hasIssues()) {
+				return false;
+			}
 			return (this.repository.getVisibility() == Visibility.PUBLIC) || this.isCommercial();
 		}
 
@@ -239,4 +461,18 @@ class GitHubReleaseScheduleSource implements ReleaseScheduleSource {
 
 	}
 
+	/**
+	 * The metadata of a repository at the time that its milestones were fetched.
+	 *
+	 * @param updatedAt when the repository was last updated
+	 * @param pushedAt when the repository was last pushed to
+	 */
+	private record RepositoryMetadata(Instant updatedAt, Instant pushedAt) {
+
+		private static RepositoryMetadata of(Repository repository) {
+			return new RepositoryMetadata(repository.getUpdatedAt(), repository.getPushedAt());
+		}
+
+	}
+
 }
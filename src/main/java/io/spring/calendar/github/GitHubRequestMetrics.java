@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records the latency of every request that is made to GitHub using the
+ * {@code github.requests} timer. Requests are tagged with the resource that was
+ * requested ({@code repositories}, {@code milestones}, {@code graphql}, or
+ * {@code other}) and the response's status code, allowing full responses, {@code 304
+ * Not Modified} responses and errors to be told apart. Requests that fail without a
+ * response have a status of {@code IO_ERROR}.
+ *
+ * @author agent (agent@local)
+ */
+class GitHubRequestMetrics implements ClientHttpRequestInterceptor {
+
+	private final MeterRegistry meterRegistry;
+
+	GitHubRequestMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		Timer.Sample sample = Timer.start(this.meterRegistry);
+		String status = "IO_ERROR";
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			status = Integer.toString(response.getStatusCode().value());
+			return response;
+		}
+		finally {
+			sample.stop(Timer.builder("github.requests")
+				.description("Requests made to GitHub")
+				.tag("resource", getResource(request.getURI().getPath()))
+				.tag("status", status)
+				.register(this.meterRegistry));
+		}
+	}
+
+	private String getResource(String path) {
+		if (path == null) {
+			return "other";
+		}
+		if (path.endsWith("/repos")) {
+			return "repositories";
+		}
+		if (path.endsWith("/milestones")) {
+			return "milestones";
+		}
+		if (path.endsWith("/graphql")) {
+			return "graphql";
+		}
+		return "other";
+	}
+
+}
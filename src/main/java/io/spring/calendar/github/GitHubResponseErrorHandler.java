@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Date;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+
+/**
+ * A {@link DefaultResponseErrorHandler} for responses from GitHub's APIs that reports
+ * when the rate limit has been exceeded. All other error responses are handled as they
+ * would be by the default handler.
+ *
+ * @author agent (agent@local)
+ */
+class GitHubResponseErrorHandler extends DefaultResponseErrorHandler {
+
+	@Override
+	public void handleError(URI url, HttpMethod method, ClientHttpResponse response) throws IOException {
+		if (response.getStatusCode() == HttpStatus.FORBIDDEN
+				&& "0".equals(response.getHeaders().getFirst("X-RateLimit-Remaining"))) {
+			throw new IllegalStateException("Rate limit exceeded. Limit will reset at "
+					+ new Date(Long.valueOf(response.getHeaders().getFirst("X-RateLimit-Reset")) * 1000));
+		}
+		super.handleError(url, method, response);
+	}
+
+}
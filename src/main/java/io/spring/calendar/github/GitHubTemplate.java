@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,24 +18,47 @@ package io.spring.calendar.github;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.Arrays;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+import io.spring.calendar.github.ConditionalRequestCache.CachedResponse;
+
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.RequestEntity;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Central class for interacting with GitHub's REST API.
+ * Central class for interacting with GitHub's REST API. Each page of results is decoded
+ * from the response body by a {@link JsonArrayDecoder} that reads only the fields that
+ * are needed. When the first page of results has a {@code last} link, the URLs of the
+ * remaining pages are derived from it and the pages are requested concurrently, each
+ * revalidating its own cached response.
+ * <p>
+ * When a {@link MilestoneHistory} is available, a repository's closed milestones are
+ * retrieved in full only when its history is missing or stale, or when a milestone that
+ * was open is no longer among its open milestones. Otherwise, only its open milestones
+ * and the closed milestones that have been updated since the history's watermark are
+ * retrieved and merged with the history.
  *
  * @author Andy Wilkinson
  */
@@ -45,100 +68,311 @@ class GitHubTemplate implements GitHubOperations {
 
 	private final LinkParser linkParser;
 
+	private final ConditionalRequestCache cache;
+
+	private final Executor executor;
+
+	private final MilestoneHistory milestoneHistory;
+
 	/**
 	 * Creates a new {@code GitHubTemplate} that will use the given {@code token} to
 	 * authenticate, and the given {@code linkParser} to parse links from responses'
 	 * {@code Link} header. It will use a {@link RestTemplate} created from the given
-	 * {@code restTemplateBuilder}.
+	 * {@code restTemplateBuilder}. Responses will be cached in memory.
 	 * @param token the token
 	 * @param linkParser the link parser
 	 * @param restTemplateBuilder the builder
 	 */
 	GitHubTemplate(String token, LinkParser linkParser, RestTemplateBuilder restTemplateBuilder) {
+		this(token, linkParser, restTemplateBuilder, new ConditionalRequestCache());
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the given {@code token} to
+	 * authenticate, and the given {@code linkParser} to parse links from responses'
+	 * {@code Link} header. It will use a {@link RestTemplate} created from the given
+	 * {@code restTemplateBuilder}. Responses will be cached in the given {@code cache}
+	 * and used to make conditional requests.
+	 * @param token the token
+	 * @param linkParser the link parser
+	 * @param restTemplateBuilder the builder
+	 * @param cache the cache
+	 */
+	GitHubTemplate(String token, LinkParser linkParser, RestTemplateBuilder restTemplateBuilder,
+			ConditionalRequestCache cache) {
+		this(token, linkParser, restTemplateBuilder, cache, Runnable::run);
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the given {@code token} to
+	 * authenticate, and the given {@code linkParser} to parse links from responses'
+	 * {@code Link} header. It will use a {@link RestTemplate} created from the given
+	 * {@code restTemplateBuilder}. Responses will be cached in the given {@code cache}
+	 * and used to make conditional requests. When the first page of results links to the
+	 * last page, the remaining pages are retrieved using the given {@code executor}.
+	 * @param token the token
+	 * @param linkParser the link parser
+	 * @param restTemplateBuilder the builder
+	 * @param cache the cache
+	 * @param executor the executor used to retrieve the remaining pages of results
+	 */
+	GitHubTemplate(String token, LinkParser linkParser, RestTemplateBuilder restTemplateBuilder,
+			ConditionalRequestCache cache, Executor executor) {
+		this(token, linkParser, restTemplateBuilder, cache, executor, null);
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the given {@code token} to
+	 * authenticate, and the given {@code linkParser} to parse links from responses'
+	 * {@code Link} header. It will use a {@link RestTemplate} created from the given
+	 * {@code restTemplateBuilder}. Responses will be cached in the given {@code cache}
+	 * and used to make conditional requests. When the first page of results links to the
+	 * last page, the remaining pages are retrieved using the given {@code executor}.
+	 * Closed milestones are retained in the given {@code milestoneHistory} so that they
+	 * do not have to be retrieved in full each time.
+	 * @param token the token
+	 * @param linkParser the link parser
+	 * @param restTemplateBuilder the builder
+	 * @param cache the cache
+	 * @param executor the executor used to retrieve the remaining pages of results
+	 * @param milestoneHistory the milestone history or {@code null} to retrieve all
+	 * milestones each time
+	 */
+	GitHubTemplate(String token, LinkParser linkParser, RestTemplateBuilder restTemplateBuilder,
+			ConditionalRequestCache cache, Executor executor, MilestoneHistory milestoneHistory) {
 		if (StringUtils.hasText(token)) {
 			restTemplateBuilder = restTemplateBuilder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
 		}
-		this.rest = restTemplateBuilder.additionalCustomizers((restTemplate) -> {
-			restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
-				@Override
-				public void handleError(ClientHttpResponse response) throws IOException {
-					if (response.getStatusCode() == HttpStatus.FORBIDDEN
-							&& response.getHeaders().getFirst("X-RateLimit-Remaining").equals("0")) {
-						throw new IllegalStateException("Rate limit exceeded. Limit will reset at "
-								+ new Date(Long.valueOf(response.getHeaders().getFirst("X-RateLimit-Reset")) * 1000));
-					}
-				}
-			});
-		}).build();
+		this.rest = restTemplateBuilder.errorHandler(new GitHubResponseErrorHandler()).build();
 		this.linkParser = linkParser;
+		this.cache = cache;
+		this.executor = executor;
+		this.milestoneHistory = milestoneHistory;
 	}
 
 	@Override
-	public Page<Milestone> getMilestones(Repository repository, Page<Milestone> earlierResponse) {
+	public Page<Milestone> getMilestones(Repository repository) {
 		String url = repository.getMilestonesUrl().toString() + "?state=all&per_page=100";
-		return new PageSupplier<>(url, earlierResponse, Milestone[].class).get();
+		if (this.milestoneHistory == null) {
+			return new PageSupplier<>(url, Milestone[].class, JsonArrayDecoder.MILESTONES).get();
+		}
+		String name = repository.getFullName();
+		List<Milestone> milestones = new ArrayList<>();
+		List<Milestone> open = (this.milestoneHistory.isIncremental(name)) ? getOpenMilestones(repository) : null;
+		if (open != null && !this.milestoneHistory.hasClosedOrDeleted(name, open)) {
+			milestones.addAll(open);
+			milestones.addAll(this.milestoneHistory.update(name, open, getRecentlyClosedMilestones(repository)));
+		}
+		else {
+			milestones.addAll(getAll(new PageSupplier<>(url, Milestone[].class, JsonArrayDecoder.MILESTONES).get()));
+			this.milestoneHistory.replace(name, milestones);
+		}
+		milestones.sort(Comparator.comparing(Milestone::getDueOn, Comparator.nullsLast(ZonedDateTime::compareTo))
+			.thenComparingLong(Milestone::getNumber));
+		return new StandardPage<>(milestones, url, null, () -> null);
+	}
+
+	private List<Milestone> getOpenMilestones(Repository repository) {
+		String url = repository.getMilestonesUrl().toString() + "?state=open&sort=due_on&per_page=100";
+		return getAll(new PageSupplier<>(url, Milestone[].class, JsonArrayDecoder.MILESTONES).get());
+	}
+
+	/**
+	 * Returns the closed milestones of the given {@code repository} that have been
+	 * updated since the watermark of its history. Closed milestones are retrieved most
+	 * recently due first, one page at a time, until a page contains no milestones that
+	 * have been updated since the watermark.
+	 * @param repository the repository
+	 * @return the recently closed milestones
+	 */
+	private List<Milestone> getRecentlyClosedMilestones(Repository repository) {
+		Instant watermark = this.milestoneHistory.getWatermark(repository.getFullName());
+		String url = repository.getMilestonesUrl().toString()
+				+ "?state=closed&sort=due_on&direction=desc&per_page=100";
+		List<Milestone> recentlyClosed = new ArrayList<>();
+		Page<Milestone> page = new PageSupplier<>(url, Milestone[].class, JsonArrayDecoder.MILESTONES, false).get();
+		while (page != null) {
+			List<Milestone> updated = page.getContent()
+				.stream()
+				.filter((milestone) -> isUpdatedSince(milestone, watermark))
+				.toList();
+			if (updated.isEmpty()) {
+				break;
+			}
+			recentlyClosed.addAll(updated);
+			page = page.next();
+		}
+		return recentlyClosed;
+	}
+
+	private boolean isUpdatedSince(Milestone milestone, Instant watermark) {
+		return watermark == null || milestone.getUpdatedAt() == null || milestone.getUpdatedAt().isAfter(watermark);
+	}
+
+	private <T> List<T> getAll(Page<T> page) {
+		List<T> content = new ArrayList<>();
+		while (page != null) {
+			content.addAll(page.getContent());
+			page = page.next();
+		}
+		return content;
 	}
 
 	@Override
-	public Page<Repository> getRepositories(String organization, Page<Repository> earlierResponse) {
-		String url = (earlierResponse != null) ? earlierResponse.getUrl()
-				: "https://api.github.com/orgs/" + organization + "/repos?per_page=100";
-		return new PageSupplier<>(url, earlierResponse, Repository[].class).get();
+	public Page<Repository> getRepositories(String organization) {
+		String url = "https://api.github.com/orgs/" + organization + "/repos?per_page=100";
+		return new PageSupplier<>(url, Repository[].class, JsonArrayDecoder.REPOSITORIES).get();
+	}
+
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+	private static Integer getPageNumber(String url) {
+		String page = UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("page");
+		if (page == null) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(page);
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
 	}
 
 	private class PageSupplier<T> implements Supplier<Page<T>> {
 
-		private String url;
+		private final String url;
 
-		private Page<T> page;
+		private final Class<T[]> type;
+
+		private final JsonArrayDecoder<T> decoder;
 
-		private Page<T> earlierResponse;
+		private final boolean concurrent;
 
-		private Class<T[]> type;
+		private Page<T> page;
+
+		PageSupplier(String url, Class<T[]> type, JsonArrayDecoder<T> decoder) {
+			this(url, type, decoder, true);
+		}
 
-		PageSupplier(String url, Page<T> earlierResponse, Class<T[]> type) {
+		PageSupplier(String url, Class<T[]> type, JsonArrayDecoder<T> decoder, boolean concurrent) {
 			this.url = url;
-			this.earlierResponse = earlierResponse;
 			this.type = type;
+			this.decoder = decoder;
+			this.concurrent = concurrent;
 		}
 
 		@Override
 		public Page<T> get() {
 			if (this.page == null) {
-				this.page = getPage(this.url, this.type);
+				this.page = getPage();
 			}
 			return this.page;
 		}
 
-		private Page<T> getPage(String url, Class<T[]> type) {
-			if (!StringUtils.hasText(url)) {
+		private Page<T> getPage() {
+			if (!StringUtils.hasText(this.url)) {
 				return null;
 			}
-			HttpHeaders headers = new HttpHeaders();
-			if (this.earlierResponse != null
-					&& (this.earlierResponse.next() != null || this.earlierResponse.getContent().size() != 100)) {
-				headers.setIfNoneMatch(this.earlierResponse.getEtag());
+			PageResponse<T> first = fetch(this.url);
+			List<String> remainingUrls = (this.concurrent) ? getRemainingPageUrls(first) : Collections.emptyList();
+			if (remainingUrls.isEmpty()) {
+				return new StandardPage<>(first.content(), this.url, first.etag(),
+						new PageSupplier<>(first.next(), this.type, this.decoder, this.concurrent));
 			}
+			List<CompletableFuture<PageResponse<T>>> remaining = remainingUrls.stream()
+				.map((pageUrl) -> CompletableFuture.supplyAsync(() -> fetch(pageUrl), GitHubTemplate.this.executor))
+				.toList();
+			return prefetchedPage(this.url, first, remainingUrls, remaining, 0);
+		}
+
+		private Page<T> prefetchedPage(String pageUrl, PageResponse<T> response, List<String> remainingUrls,
+				List<CompletableFuture<PageResponse<T>>> remaining, int index) {
+			Supplier<Page<T>> next = (index < remaining.size())
+					? SingletonSupplier.of(() -> prefetchedPage(remainingUrls.get(index), join(remaining.get(index)),
+							remainingUrls, remaining, index + 1))
+					: () -> null;
+			return new StandardPage<>(response.content(), pageUrl, response.etag(), next);
+		}
 
-			ResponseEntity<T[]> response = GitHubTemplate.this.rest
-				.exchange(new RequestEntity<>(headers, HttpMethod.GET, URI.create(this.url)), this.type);
+		/**
+		 * Returns the URLs of the pages that follow the given first page when they can be
+		 * derived from its {@code next} and {@code last} links. Otherwise, an empty list
+		 * is returned and the pages are retrieved one after another by following each
+		 * page's {@code next} link.
+		 * @param first the first page
+		 * @return the URLs of the second through last pages
+		 */
+		private List<String> getRemainingPageUrls(PageResponse<T> first) {
+			if (first.next() == null || first.last() == null) {
+				return Collections.emptyList();
+			}
+			Integer nextPage = getPageNumber(first.next());
+			Integer lastPage = getPageNumber(first.last());
+			if (nextPage == null || nextPage != 2 || lastPage == null) {
+				return Collections.emptyList();
+			}
+			List<String> urls = new ArrayList<>();
+			urls.add(first.next());
+			for (int pageNumber = 3; pageNumber <= lastPage; pageNumber++) {
+				urls.add(UriComponentsBuilder.fromUriString(first.last())
+					.replaceQueryParam("page", pageNumber)
+					.build()
+					.toUriString());
+			}
+			return urls;
+		}
+
+		private PageResponse<T> fetch(String pageUrl) {
+			CachedResponse<T> cached = GitHubTemplate.this.cache.get(pageUrl, this.type);
+			ResponseEntity<List<T>> response = GitHubTemplate.this.rest.execute(URI.create(pageUrl), HttpMethod.GET,
+					(request) -> prepareRequest(request, cached), this::extractResponse);
 			if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
-				Page<T> nextEarlierResponse = this.earlierResponse.next();
-				return new StandardPage<>(this.earlierResponse.getContent(), this.url, this.earlierResponse.getEtag(),
-						new PageSupplier<>((nextEarlierResponse != null) ? nextEarlierResponse.getUrl() : null,
-								nextEarlierResponse, this.type));
+				GitHubTemplate.this.cache.recordHit();
+				return new PageResponse<>(cached.content(), cached.etag(), cached.next(), cached.last());
+			}
+			GitHubTemplate.this.cache.recordMiss();
+			List<T> content = List.copyOf(response.getBody());
+			String etag = response.getHeaders().getETag();
+			Map<String, String> links = GitHubTemplate.this.linkParser.parse(response.getHeaders().getFirst("Link"));
+			String next = links.get("next");
+			String last = links.get("last");
+			if (etag != null) {
+				GitHubTemplate.this.cache.put(pageUrl, new CachedResponse<>(etag, next, last, content));
 			}
 			else {
-				return new StandardPage<>(Arrays.asList(response.getBody()), this.url, response.getHeaders().getETag(),
-						new PageSupplier<>(getNextUrl(response), null, this.type));
+				GitHubTemplate.this.cache.remove(pageUrl);
 			}
+			return new PageResponse<>(content, etag, next, last);
+		}
 
+		private void prepareRequest(ClientHttpRequest request, CachedResponse<T> cached) {
+			request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+			if (cached != null && (cached.next() != null || cached.content().size() != 100)) {
+				request.getHeaders().setIfNoneMatch(cached.etag());
+			}
 		}
 
-		private String getNextUrl(ResponseEntity<?> response) {
-			return GitHubTemplate.this.linkParser.parse(response.getHeaders().getFirst("Link")).get("next");
+		private ResponseEntity<List<T>> extractResponse(ClientHttpResponse response) throws IOException {
+			HttpStatusCode status = response.getStatusCode();
+			List<T> body = (status == HttpStatus.NOT_MODIFIED) ? null : this.decoder.decode(response.getBody());
+			return new ResponseEntity<>(body, response.getHeaders(), status);
 		}
 
 	}
 
+	private record PageResponse<T>(List<T> content, String etag, String next, String last) {
+
+	}
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.calendar.release.ReleaseRepository;
+import io.spring.calendar.release.ReleaseSchedule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that receives GitHub webhook deliveries so that changes to milestones are
+ * reflected in the {@link ReleaseRepository} as soon as they are made rather than on the
+ * next poll. Every delivery must carry a valid {@code X-Hub-Signature-256} HMAC of its
+ * payload. {@code milestone} events for repositories that have already been polled update
+ * the releases of the repository's project and the repository's {@link MilestoneHistory}.
+ * Other deliveries are accepted and ignored, leaving polling to reconcile any changes
+ * that they describe.
+ *
+ * @author agent (agent@local)
+ */
+@RestController
+@ConditionalOnProperty("calendar.github.webhook.secret")
+class GitHubWebhookController {
+
+	private static final Logger log = LoggerFactory.getLogger(GitHubWebhookController.class);
+
+	private static final String SIGNATURE_PREFIX = "sha256=";
+
+	private static final Set<String> MILESTONE_ACTIONS = Set.of("created", "edited", "opened", "closed", "deleted");
+
+	private final SecretKeySpec key;
+
+	private final GitHubReleaseScheduleSource releaseScheduleSource;
+
+	private final ReleaseRepository releaseRepository;
+
+	private final MilestoneHistory milestoneHistory;
+
+	private final ObjectMapper objectMapper;
+
+	GitHubWebhookController(GitHubProperties properties, GitHubReleaseScheduleSource releaseScheduleSource,
+			ReleaseRepository releaseRepository, MilestoneHistory milestoneHistory, ObjectMapper objectMapper) {
+		this.key = new SecretKeySpec(properties.getWebhook().getSecret().getBytes(StandardCharsets.UTF_8),
+				"HmacSHA256");
+		this.releaseScheduleSource = releaseScheduleSource;
+		this.releaseRepository = releaseRepository;
+		this.milestoneHistory = milestoneHistory;
+		this.objectMapper = objectMapper;
+	}
+
+	@PostMapping("/webhooks/github")
+	ResponseEntity<Void> webhook(@RequestHeader("X-GitHub-Event") String event,
+			@RequestHeader(name = "X-Hub-Signature-256", required = false) String signature,
+			@RequestBody byte[] payload) throws IOException {
+		if (!isValid(signature, payload)) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		if ("ping".equals(event)) {
+			return ResponseEntity.noContent().build();
+		}
+		if (!"milestone".equals(event)) {
+			return ResponseEntity.accepted().build();
+		}
+		JsonNode json = this.objectMapper.readTree(payload);
+		String action = json.path("action").asText();
+		if (!MILESTONE_ACTIONS.contains(action)) {
+			return ResponseEntity.accepted().build();
+		}
+		String repository = json.path("repository").path("full_name").asText();
+		Milestone milestone = this.objectMapper.treeToValue(json.path("milestone"), Milestone.class);
+		boolean deleted = "deleted".equals(action);
+		ReleaseSchedule releaseSchedule = this.releaseScheduleSource.applyMilestoneChange(repository, milestone,
+				deleted);
+		if (releaseSchedule == null) {
+			log.debug("Ignoring milestone {} in unknown repository {}", action, repository);
+			return ResponseEntity.accepted().build();
+		}
+		log.info("Milestone {} {} in {}", milestone.getTitle(), action, repository);
+		this.milestoneHistory.apply(repository, milestone, deleted);
+		this.releaseRepository.update(Map.of(releaseSchedule.getProject(), releaseSchedule.getReleases()));
+		return ResponseEntity.noContent().build();
+	}
+
+	private boolean isValid(String signature, byte[] payload) {
+		if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+			return false;
+		}
+		byte[] provided;
+		try {
+			provided = HexFormat.of().parseHex(signature, SIGNATURE_PREFIX.length(), signature.length());
+		}
+		catch (IllegalArgumentException ex) {
+			return false;
+		}
+		return MessageDigest.isEqual(hmac(payload), provided);
+	}
+
+	private byte[] hmac(byte[] payload) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(this.key);
+			return mac.doFinal(payload);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Failed to compute webhook signature", ex);
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.spring.calendar.github.Milestone.State;
+import io.spring.calendar.github.Repository.Visibility;
+
+/**
+ * Decodes a JSON array of objects, such as a page of results from GitHub's REST API,
+ * directly from a stream of tokens. Only the fields that are needed to create each
+ * element are read. The values of every other field, including nested objects and arrays,
+ * are skipped without being materialized.
+ *
+ * @param <T> the type of the array's elements
+ * @author agent (agent@local)
+ */
+final class JsonArrayDecoder<T> {
+
+	/**
+	 * Decoder for an array of {@link Milestone Milestones}.
+	 */
+	static final JsonArrayDecoder<Milestone> MILESTONES = new JsonArrayDecoder<>(JsonArrayDecoder::decodeMilestone);
+
+	/**
+	 * Decoder for an array of {@link Repository Repositories}.
+	 */
+	static final JsonArrayDecoder<Repository> REPOSITORIES = new JsonArrayDecoder<>(
+			JsonArrayDecoder::decodeRepository);
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final ElementDecoder<T> elementDecoder;
+
+	private JsonArrayDecoder(ElementDecoder<T> elementDecoder) {
+		this.elementDecoder = elementDecoder;
+	}
+
+	/**
+	 * Decodes the JSON array in the given {@code input}.
+	 * @param input the input
+	 * @return the decoded elements
+	 * @throws IOException if the input cannot be read or is not an array of objects
+	 */
+	List<T> decode(InputStream input) throws IOException {
+		try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+			return decode(parser);
+		}
+	}
+
+	private List<T> decode(JsonParser parser) throws IOException {
+		expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+		List<T> elements = new ArrayList<>();
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			expect(parser, token, JsonToken.START_OBJECT);
+			elements.add(this.elementDecoder.decode(parser));
+		}
+		return elements;
+	}
+
+	private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+		if (actual != expected) {
+			throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+		}
+	}
+
+	private static Milestone decodeMilestone(JsonParser parser) throws IOException {
+		String title = null;
+		String dueOn = null;
+		String state = null;
+		long number = 0;
+		String updatedAt = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "title" -> title = parser.getValueAsString();
+				case "due_on" -> dueOn = parser.getValueAsString();
+				case "state" -> state = parser.getValueAsString();
+				case "number" -> number = parser.getValueAsLong();
+				case "updated_at" -> updatedAt = parser.getValueAsString();
+				default -> parser.skipChildren();
+			}
+		}
+		return new Milestone(title, (dueOn != null) ? ZonedDateTime.parse(dueOn) : null,
+				(state != null) ? State.valueOf(state.toUpperCase(Locale.ROOT)) : null, number, instant(updatedAt));
+	}
+
+	private static Repository decodeRepository(JsonParser parser) throws IOException {
+		String name = null;
+		String fullName = null;
+		String milestonesUrl = null;
+		String htmlUrl = null;
+		String visibility = null;
+		boolean archived = false;
+		Boolean hasIssues = null;
+		String updatedAt = null;
+		String pushedAt = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "name" -> name = parser.getValueAsString();
+				case "full_name" -> fullName = parser.getValueAsString();
+				case "milestones_url" -> milestonesUrl = parser.getValueAsString();
+				case "html_url" -> htmlUrl = parser.getValueAsString();
+				case "visibility" -> visibility = parser.getValueAsString();
+				case "archived" -> archived = parser.getValueAsBoolean();
+				case "has_issues" -> hasIssues = (parser.currentToken() != JsonToken.VALUE_NULL)
+						? parser.getValueAsBoolean() : null;
+				case "updated_at" -> updatedAt = parser.getValueAsString();
+				case "pushed_at" -> pushedAt = parser.getValueAsString();
+				default -> parser.skipChildren();
+			}
+		}
+		return new Repository(name, fullName, milestonesUrl, htmlUrl,
+				(visibility != null) ? Visibility.valueOf(visibility.toUpperCase(Locale.ROOT)) : null, archived,
+				hasIssues, instant(updatedAt), instant(pushedAt));
+	}
+
+	private static Instant instant(String value) {
+		return (value != null) ? Instant.parse(value) : null;
+	}
+
+	@FunctionalInterface
+	private interface ElementDecoder<T> {
+
+		T decode(JsonParser parser) throws IOException;
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,17 @@
 
 package io.spring.calendar.github;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * A minimal representation of a GitHub issues milestone.
+ * A minimal representation of a GitHub issues milestone. When the milestone was last
+ * updated is used for bookkeeping only and does not take part in equality.
  *
  * @author Andy Wilkinson
  */
@@ -49,29 +52,68 @@ class Milestone {
 
 	private final long number;
 
+	private final Instant updatedAt;
+
+	Milestone(String title, ZonedDateTime dueOn, State state, long number) {
+		this(title, dueOn, state, number, null);
+	}
+
 	@JsonCreator
 	Milestone(@JsonProperty("title") String title, @JsonProperty("due_on") ZonedDateTime dueOn,
-			@JsonProperty("state") State state, @JsonProperty("number") long number) {
+			@JsonProperty("state") State state, @JsonProperty("number") long number,
+			@JsonProperty("updated_at") Instant updatedAt) {
 		this.title = title;
 		this.dueOn = (dueOn != null) ? dueOn.withZoneSameInstant(ZoneId.of("UTC")) : null;
 		this.state = state;
 		this.number = number;
+		this.updatedAt = updatedAt;
 	}
 
+	@JsonProperty("title")
 	String getTitle() {
 		return this.title;
 	}
 
+	@JsonProperty("due_on")
 	ZonedDateTime getDueOn() {
 		return this.dueOn;
 	}
 
+	@JsonProperty("state")
 	State getState() {
 		return this.state;
 	}
 
+	@JsonProperty("number")
 	long getNumber() {
 		return this.number;
 	}
 
+	/**
+	 * Returns when the milestone was last updated, or {@code null} if not known.
+	 * @return when the milestone was last updated
+	 */
+	@JsonProperty("updated_at")
+	Instant getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		Milestone other = (Milestone) obj;
+		return this.number == other.number && this.state == other.state && Objects.equals(this.title, other.title)
+				&& Objects.equals(this.dueOn, other.dueOn);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.title, this.dueOn, this.state, this.number);
+	}
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.calendar.github.Milestone.State;
+
+/**
+ * The closed milestones of each repository, retained so that routine updates only need
+ * to retrieve a repository's open milestones and the closed milestones that have been
+ * updated since its history was last updated. Each repository's history tracks a
+ * watermark: the most recent time at which one of its closed milestones was updated.
+ * It also tracks which milestones were open so that a milestone that has since been
+ * closed or deleted can be detected even when it is not among the most recently due
+ * closed milestones. Closed milestones that are deleted cannot be detected
+ * incrementally, so each repository's history is discarded once it is older than the
+ * full refresh interval, causing all of its milestones to be retrieved again.
+ *
+ * @author agent (agent@local)
+ */
+class MilestoneHistory {
+
+	private final Map<String, RepositoryHistory> histories = new ConcurrentHashMap<>();
+
+	private final Clock clock;
+
+	private final Duration fullRefreshInterval;
+
+	/**
+	 * Creates a new {@code MilestoneHistory}.
+	 * @param clock the clock
+	 * @param fullRefreshInterval the interval after which all of a repository's
+	 * milestones are retrieved again
+	 */
+	MilestoneHistory(Clock clock, Duration fullRefreshInterval) {
+		this.clock = clock;
+		this.fullRefreshInterval = fullRefreshInterval;
+	}
+
+	/**
+	 * Returns whether the given {@code repository} has a history that can be updated
+	 * incrementally.
+	 * @param repository the full name of the repository
+	 * @return {@code true} if the history can be updated incrementally, otherwise
+	 * {@code false} if all of the repository's milestones should be retrieved
+	 */
+	boolean isIncremental(String repository) {
+		RepositoryHistory history = this.histories.get(repository);
+		return history != null && this.clock.instant().isBefore(history.created().plus(this.fullRefreshInterval));
+	}
+
+	/**
+	 * Returns whether any of the milestones that were open when the history of the given
+	 * {@code repository} was last updated are missing from its current {@code open}
+	 * milestones, indicating that they have since been closed or deleted.
+	 * @param repository the full name of the repository
+	 * @param open the repository's current open milestones
+	 * @return {@code true} if a previously open milestone is no longer open, otherwise
+	 * {@code false}
+	 */
+	boolean hasClosedOrDeleted(String repository, List<Milestone> open) {
+		RepositoryHistory history = this.histories.get(repository);
+		return history != null && !numbers(open).containsAll(history.open());
+	}
+
+	/**
+	 * Returns the watermark of the given {@code repository}'s history, or {@code null}
+	 * if it is not known.
+	 * @param repository the full name of the repository
+	 * @return the watermark or {@code null}
+	 */
+	Instant getWatermark(String repository) {
+		RepositoryHistory history = this.histories.get(repository);
+		return (history != null) ? history.watermark() : null;
+	}
+
+	/**
+	 * Replaces the history of the given {@code repository} using all of its
+	 * {@code milestones}.
+	 * @param repository the full name of the repository
+	 * @param milestones all of the repository's milestones
+	 */
+	void replace(String repository, List<Milestone> milestones) {
+		Map<Long, Milestone> closed = new LinkedHashMap<>();
+		Set<Long> open = new HashSet<>();
+		for (Milestone milestone : milestones) {
+			if (milestone.getState() == State.CLOSED) {
+				closed.put(milestone.getNumber(), milestone);
+			}
+			else {
+				open.add(milestone.getNumber());
+			}
+		}
+		this.histories.put(repository,
+				new RepositoryHistory(closed, open, watermark(closed), this.clock.instant()));
+	}
+
+	/**
+	 * Updates the history of the given {@code repository} and returns its closed
+	 * milestones. Milestones that are now {@code open} are removed from the history and
+	 * those that have been {@code recentlyClosed} are added to it or replace the
+	 * milestones with the same number.
+	 * @param repository the full name of the repository
+	 * @param open the repository's open milestones
+	 * @param recentlyClosed the milestones that have been closed or updated since the
+	 * watermark
+	 * @return the repository's closed milestones
+	 */
+	List<Milestone> update(String repository, List<Milestone> open, List<Milestone> recentlyClosed) {
+		RepositoryHistory history = this.histories.compute(repository, (name, previous) -> {
+			Map<Long, Milestone> closed = (previous != null) ? new LinkedHashMap<>(previous.closed())
+					: new LinkedHashMap<>();
+			open.forEach((milestone) -> closed.remove(milestone.getNumber()));
+			recentlyClosed.forEach((milestone) -> closed.put(milestone.getNumber(), milestone));
+			Instant created = (previous != null) ? previous.created() : this.clock.instant();
+			return new RepositoryHistory(closed, numbers(open), watermark(closed), created);
+		});
+		return new ArrayList<>(history.closed().values());
+	}
+
+	/**
+	 * Applies a change to a single {@code milestone}, such as one received from a
+	 * webhook, to the history of the given {@code repository}. Nothing is changed if the
+	 * repository has no history.
+	 * @param repository the full name of the repository
+	 * @param milestone the milestone that has been created or changed
+	 * @param deleted whether the milestone has been deleted
+	 */
+	void apply(String repository, Milestone milestone, boolean deleted) {
+		this.histories.computeIfPresent(repository, (name, previous) -> {
+			Map<Long, Milestone> closed = new LinkedHashMap<>(previous.closed());
+			Set<Long> open = new HashSet<>(previous.open());
+			closed.remove(milestone.getNumber());
+			open.remove(milestone.getNumber());
+			if (!deleted && milestone.getState() == State.CLOSED) {
+				closed.put(milestone.getNumber(), milestone);
+			}
+			else if (!deleted) {
+				open.add(milestone.getNumber());
+			}
+			return new RepositoryHistory(closed, open, watermark(closed), previous.created());
+		});
+	}
+
+	private Set<Long> numbers(List<Milestone> milestones) {
+		Set<Long> numbers = new HashSet<>();
+		milestones.forEach((milestone) -> numbers.add(milestone.getNumber()));
+		return numbers;
+	}
+
+	private Instant watermark(Map<Long, Milestone> closed) {
+		Instant watermark = null;
+		for (Milestone milestone : closed.values()) {
+			Instant updatedAt = milestone.getUpdatedAt();
+			if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+				watermark = updatedAt;
+			}
+		}
+		return watermark;
+	}
+
+	private record RepositoryHistory(Map<Long, Milestone> closed, Set<Long> open, Instant watermark,
+			Instant created) {
+
+	}
+
+}
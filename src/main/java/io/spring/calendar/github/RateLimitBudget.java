@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Tracks GitHub's rate limit using the {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} headers of every response and works out how many requests
+ * each update cycle may make so that the remaining requests are spread across the time
+ * until the limit resets. A number of requests are held in reserve and are never
+ * allocated.
+ *
+ * @author agent (agent@local)
+ */
+class RateLimitBudget implements ClientHttpRequestInterceptor, MeterBinder {
+
+	private final Clock clock;
+
+	private final Duration cycle;
+
+	private final int reserve;
+
+	private volatile Window window;
+
+	/**
+	 * Creates a new {@code RateLimitBudget} that does not limit the number of requests
+	 * until a response with rate limit headers has been received.
+	 */
+	RateLimitBudget() {
+		this(Clock.systemUTC(), Duration.ofMinutes(5), 0);
+	}
+
+	/**
+	 * Creates a new {@code RateLimitBudget}.
+	 * @param clock the clock used to determine the time until the limit resets
+	 * @param cycle the interval between update cycles
+	 * @param reserve the number of requests that are held in reserve
+	 */
+	RateLimitBudget(Clock clock, Duration cycle, int reserve) {
+		this.clock = clock;
+		this.cycle = cycle;
+		this.reserve = reserve;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		ClientHttpResponse response = execution.execute(request, body);
+		update(response.getHeaders());
+		return response;
+	}
+
+	/**
+	 * Updates the budget using the rate limit headers in the given {@code headers}.
+	 * Headers without rate limit information are ignored.
+	 * @param headers the response headers
+	 */
+	void update(HttpHeaders headers) {
+		Long remaining = longHeader(headers, "X-RateLimit-Remaining");
+		Long reset = longHeader(headers, "X-RateLimit-Reset");
+		if (remaining == null || reset == null) {
+			return;
+		}
+		Long limit = longHeader(headers, "X-RateLimit-Limit");
+		Window latest = new Window(remaining, limit, Instant.ofEpochSecond(reset));
+		synchronized (this) {
+			Window current = this.window;
+			if (current == null || latest.reset().isAfter(current.reset())
+					|| (latest.reset().equals(current.reset()) && latest.remaining() < current.remaining())) {
+				this.window = latest;
+			}
+		}
+	}
+
+	private Long longHeader(HttpHeaders headers, String name) {
+		String value = headers.getFirst(name);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the number of requests that the current update cycle may make. The
+	 * remaining requests, less the reserve, are divided evenly across the cycles that
+	 * will run before the limit resets. When nothing is known about the limit, or the
+	 * limit has already reset, the allowance is unlimited.
+	 * @return the allowance for the current cycle
+	 */
+	int allowance() {
+		Window current = this.window;
+		Instant now = this.clock.instant();
+		if (current == null || !now.isBefore(current.reset())) {
+			return Integer.MAX_VALUE;
+		}
+		long usable = Math.max(0, current.remaining() - this.reserve);
+		long untilReset = Duration.between(now, current.reset()).toMillis();
+		long cycles = Math.max(1, (untilReset + this.cycle.toMillis() - 1) / this.cycle.toMillis());
+		return (int) Math.min(Integer.MAX_VALUE, (usable + cycles - 1) / cycles);
+	}
+
+	/**
+	 * Returns the number of requests that remain before the limit resets, or {@code -1}
+	 * if it is not known.
+	 * @return the remaining requests
+	 */
+	long getRemaining() {
+		Window current = this.window;
+		return (current != null) ? current.remaining() : -1;
+	}
+
+	/**
+	 * Returns the time at which the limit will reset, or {@code null} if it is not
+	 * known.
+	 * @return the reset time
+	 */
+	Instant getReset() {
+		Window current = this.window;
+		return (current != null) ? current.reset() : null;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("github.ratelimit.remaining", this, RateLimitBudget::remainingOrNaN)
+			.description("Requests that remain before GitHub's rate limit resets")
+			.register(registry);
+		Gauge.builder("github.ratelimit.limit", this, RateLimitBudget::limitOrNaN)
+			.description("Requests that GitHub allows in each rate limit window")
+			.register(registry);
+	}
+
+	private double remainingOrNaN() {
+		Window current = this.window;
+		return (current != null) ? current.remaining() : Double.NaN;
+	}
+
+	private double limitOrNaN() {
+		Window current = this.window;
+		return (current != null && current.limit() != null) ? current.limit() : Double.NaN;
+	}
+
+	private record Window(long remaining, Long limit, Instant reset) {
+
+	}
+
+}
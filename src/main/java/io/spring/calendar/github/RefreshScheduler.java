@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import io.spring.calendar.github.Milestone.State;
+
+/**
+ * Schedules the refreshing of each repository's milestones. A repository is hot when it
+ * has an open milestone that is due soon or when its milestones have changed recently.
+ * An open milestone that became overdue longer ago than the recent change period no
+ * longer makes its repository hot. Hot repositories are refreshed at the minimum
+ * interval. Each time a cold repository is refreshed without its milestones having
+ * changed, the interval before it is next refreshed doubles, up to the maximum interval.
+ * A repository that has never been refreshed is always due.
+ *
+ * @author agent (agent@local)
+ */
+class RefreshScheduler {
+
+	private final Map<String, RepositoryRefresh> refreshes = new ConcurrentHashMap<>();
+
+	private final Clock clock;
+
+	private final Duration minimumInterval;
+
+	private final Duration maximumInterval;
+
+	private final Duration dueSoon;
+
+	private final Duration recentChange;
+
+	/**
+	 * Creates a new {@code RefreshScheduler} that uses the given {@code clock} and
+	 * considers every repository to be due on every update.
+	 * @param clock the clock
+	 */
+	RefreshScheduler(Clock clock) {
+		this(clock, Duration.ZERO, Duration.ZERO, Duration.ofDays(14), Duration.ZERO);
+	}
+
+	/**
+	 * Creates a new {@code RefreshScheduler}.
+	 * @param clock the clock
+	 * @param minimumInterval the interval at which hot repositories are refreshed
+	 * @param maximumInterval the longest interval between refreshes of a cold repository
+	 * @param dueSoon how far ahead an open milestone must be due to make its repository
+	 * hot
+	 * @param recentChange how long a repository remains hot after its milestones change
+	 * or after one of its open milestones was due
+	 */
+	RefreshScheduler(Clock clock, Duration minimumInterval, Duration maximumInterval, Duration dueSoon,
+			Duration recentChange) {
+		this.clock = clock;
+		this.minimumInterval = minimumInterval;
+		this.maximumInterval = maximumInterval;
+		this.dueSoon = dueSoon;
+		this.recentChange = recentChange;
+	}
+
+	/**
+	 * Returns whether the given {@code repository} is due to be refreshed. To allow for
+	 * updates that run slightly early, a repository is considered due when its next
+	 * refresh is less than half of the minimum interval away.
+	 * @param repository the full name of the repository
+	 * @return {@code true} if the repository is due, otherwise {@code false}
+	 */
+	boolean isDue(String repository) {
+		RepositoryRefresh refresh = this.refreshes.get(repository);
+		if (refresh == null) {
+			return true;
+		}
+		Instant now = this.clock.instant();
+		return !now.plus(this.minimumInterval.dividedBy(2)).isBefore(refresh.next());
+	}
+
+	/**
+	 * Records that the given {@code repository} has been refreshed and now has the given
+	 * {@code milestones}, and schedules its next refresh.
+	 * @param repository the full name of the repository
+	 * @param milestones the repository's milestones
+	 */
+	void refreshed(String repository, List<Milestone> milestones) {
+		Instant now = this.clock.instant();
+		this.refreshes.compute(repository, (name, previous) -> {
+			boolean changed = previous == null || !previous.milestones().equals(milestones);
+			Instant lastChanged = changed ? now : previous.lastChanged();
+			Duration interval = nextInterval(previous, milestones, lastChanged, now);
+			return new RepositoryRefresh(List.copyOf(milestones), now, lastChanged, interval, now.plus(interval));
+		});
+	}
+
+	/**
+	 * Updates the milestones of the given {@code repository} using the given
+	 * {@code update} function without rescheduling its next refresh. The repository is
+	 * recorded as having changed. Nothing is updated if the repository has never been
+	 * refreshed.
+	 * @param repository the full name of the repository
+	 * @param update the function that produces the updated milestones
+	 * @return the updated milestones or {@code null} if the repository has never been
+	 * refreshed
+	 */
+	List<Milestone> updateMilestones(String repository, UnaryOperator<List<Milestone>> update) {
+		Instant now = this.clock.instant();
+		RepositoryRefresh refresh = this.refreshes.computeIfPresent(repository,
+				(name, previous) -> new RepositoryRefresh(List.copyOf(update.apply(previous.milestones())),
+						previous.refreshed(), now, previous.interval(), previous.next()));
+		return (refresh != null) ? refresh.milestones() : null;
+	}
+
+	private Duration nextInterval(RepositoryRefresh previous, List<Milestone> milestones, Instant lastChanged,
+			Instant now) {
+		if (previous == null || isHot(milestones, lastChanged, now)) {
+			return this.minimumInterval;
+		}
+		Duration doubled = previous.interval().multipliedBy(2);
+		if (doubled.compareTo(this.minimumInterval) < 0) {
+			return this.minimumInterval;
+		}
+		return (doubled.compareTo(this.maximumInterval) > 0) ? this.maximumInterval : doubled;
+	}
+
+	private boolean isHot(List<Milestone> milestones, Instant lastChanged, Instant now) {
+		return hasOpenMilestoneDueSoon(milestones, now) || lastChanged.plus(this.recentChange).isAfter(now);
+	}
+
+	private boolean hasOpenMilestoneDueSoon(List<Milestone> milestones, Instant now) {
+		ZonedDateTime recent = now.minus(this.recentChange).atZone(this.clock.getZone());
+		ZonedDateTime soon = now.plus(this.dueSoon).atZone(this.clock.getZone());
+		for (Milestone milestone : milestones) {
+			if (milestone.getState() == State.OPEN && milestone.getDueOn() != null
+					&& milestone.getDueOn().isAfter(recent) && milestone.getDueOn().isBefore(soon)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the milestones that the given {@code repository} had when it was last
+	 * refreshed, or {@code null} if it has never been refreshed.
+	 * @param repository the full name of the repository
+	 * @return the milestones or {@code null}
+	 */
+	List<Milestone> getMilestones(String repository) {
+		RepositoryRefresh refresh = this.refreshes.get(repository);
+		return (refresh != null) ? refresh.milestones() : null;
+	}
+
+	/**
+	 * Returns the priority of refreshing the given {@code repository} when not every
+	 * repository that is due can be refreshed. Lower values have higher priority:
+	 * repositories that have never been refreshed come first, followed by those with an
+	 * open milestone that is due soon, those with any open milestone, and then the rest.
+	 * @param repository the full name of the repository
+	 * @return the priority
+	 */
+	int getPriority(String repository) {
+		RepositoryRefresh refresh = this.refreshes.get(repository);
+		if (refresh == null) {
+			return 0;
+		}
+		if (hasOpenMilestoneDueSoon(refresh.milestones(), this.clock.instant())) {
+			return 1;
+		}
+		boolean open = refresh.milestones().stream().anyMatch((milestone) -> milestone.getState() == State.OPEN);
+		return open ? 2 : 3;
+	}
+
+	/**
+	 * Returns when the given {@code repository} was last refreshed, or
+	 * {@link Instant#MIN} if it has never been refreshed.
+	 * @param repository the full name of the repository
+	 * @return when the repository was last refreshed
+	 */
+	Instant getLastRefreshed(String repository) {
+		RepositoryRefresh refresh = this.refreshes.get(repository);
+		return (refresh != null) ? refresh.refreshed() : Instant.MIN;
+	}
+
+	/**
+	 * Returns the interval until the given {@code repository} is next refreshed, or
+	 * {@code null} if it has never been refreshed.
+	 * @param repository the full name of the repository
+	 * @return the interval or {@code null}
+	 */
+	Duration getInterval(String repository) {
+		RepositoryRefresh refresh = this.refreshes.get(repository);
+		return (refresh != null) ? refresh.interval() : null;
+	}
+
+	private record RepositoryRefresh(List<Milestone> milestones, Instant refreshed, Instant lastChanged,
+			Duration interval, Instant next) {
+
+	}
+
+}
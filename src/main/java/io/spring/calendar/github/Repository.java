@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.spring.calendar.github;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Instant;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -40,37 +41,97 @@ class Repository {
 
 	private final Visibility visibility;
 
+	private final boolean archived;
+
+	private final boolean hasIssues;
+
+	private final Instant updatedAt;
+
+	private final Instant pushedAt;
+
+	Repository(String name, String fullName, String milestonesUrl, String htmlUrl, Visibility visibility) {
+		this(name, fullName, milestonesUrl, htmlUrl, visibility, false, true, null, null);
+	}
+
 	@JsonCreator
 	Repository(@JsonProperty("name") String name, @JsonProperty("full_name") String fullName,
 			@JsonProperty("milestones_url") String milestonesUrl, @JsonProperty("html_url") String htmlUrl,
-			@JsonProperty("visibility") Visibility visibility) {
+			@JsonProperty("visibility") Visibility visibility, @JsonProperty("archived") boolean archived,
+			@JsonProperty("has_issues") Boolean hasIssues, @JsonProperty("updated_at") Instant updatedAt,
+			@JsonProperty("pushed_at") Instant pushedAt) {
 		this.name = name;
 		this.fullName = fullName;
 		this.milestonesUrl = sanitizeUrl(milestonesUrl);
 		this.htmlUrl = sanitizeUrl(htmlUrl);
 		this.visibility = visibility;
+		this.archived = archived;
+		this.hasIssues = (hasIssues == null) || hasIssues;
+		this.updatedAt = updatedAt;
+		this.pushedAt = pushedAt;
 	}
 
+	@JsonProperty("full_name")
 	String getFullName() {
 		return this.fullName;
 	}
 
+	@JsonProperty("name")
 	String getName() {
 		return this.name;
 	}
 
+	@JsonProperty("milestones_url")
 	URL getMilestonesUrl() {
 		return this.milestonesUrl;
 	}
 
+	@JsonProperty("html_url")
 	URL getHtmlUrl() {
 		return this.htmlUrl;
 	}
 
+	@JsonProperty("visibility")
 	Visibility getVisibility() {
 		return this.visibility;
 	}
 
+	/**
+	 * Returns whether the repository has been archived.
+	 * @return {@code true} if the repository is archived, otherwise {@code false}
+	 */
+	@JsonProperty("archived")
+	boolean isArchived() {
+		return this.archived;
+	}
+
+	/**
+	 * Returns whether the repository's issues, and therefore its milestones, are
+	 * enabled. Assumed to be {@code true} when not known.
+	 * @return {@code true} if issues are enabled, otherwise {@code false}
+	 */
+	@JsonProperty("has_issues")
+	boolean hasIssues() {
+		return this.hasIssues;
+	}
+
+	/**
+	 * Returns when the repository was last updated, or {@code null} if not known.
+	 * @return when the repository was last updated
+	 */
+	@JsonProperty("updated_at")
+	Instant getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	/**
+	 * Returns when the repository was last pushed to, or {@code null} if not known.
+	 * @return when the repository was last pushed to
+	 */
+	@JsonProperty("pushed_at")
+	Instant getPushedAt() {
+		return this.pushedAt;
+	}
+
 	private static URL sanitizeUrl(String url) {
 		int index = url.indexOf('{');
 		try {
@@ -89,16 +150,19 @@ class Repository {
 		/**
 		 * A private repository.
 		 */
+		@JsonProperty("private")
 		PRIVATE,
 
 		/**
 		 * A public repository.
 		 */
+		@JsonProperty("public")
 		PUBLIC,
 
 		/**
 		 * An internal repository.
 		 */
+		@JsonProperty("internal")
 		INTERNAL
 
 	}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A {@code LinkParser} that parses the header in a single pass without regular
+ * expressions or splitting it into intermediate strings. Only the {@code next} and
+ * {@code last} links are returned as they are the only links that are needed to page
+ * through results. Whitespace around delimiters is tolerated, a link's {@code rel}
+ * parameter may appear in any position among its parameters, with or without quotes,
+ * and may hold several space-separated relation types. Links that are malformed are
+ * ignored.
+ *
+ * @author agent (agent@local)
+ */
+class SinglePassLinkParser implements LinkParser {
+
+	private static final String NEXT = "next";
+
+	private static final String LAST = "last";
+
+	@Override
+	public Map<String, String> parse(String header) {
+		if (header == null) {
+			return Collections.emptyMap();
+		}
+		String next = null;
+		String last = null;
+		int length = header.length();
+		int index = 0;
+		while (index < length) {
+			index = skipWhitespaceAndCommas(header, index);
+			if (index >= length) {
+				break;
+			}
+			if (header.charAt(index) != '<') {
+				index = skipToEndOfLink(header, index);
+				continue;
+			}
+			int uriStart = index + 1;
+			int uriEnd = header.indexOf('>', uriStart);
+			if (uriEnd == -1) {
+				break;
+			}
+			index = uriEnd + 1;
+			boolean isNext = false;
+			boolean isLast = false;
+			while (true) {
+				index = skipWhitespace(header, index);
+				if (index >= length || header.charAt(index) != ';') {
+					break;
+				}
+				index = skipWhitespace(header, index + 1);
+				int nameStart = index;
+				while (index < length && !isDelimiter(header.charAt(index)) && header.charAt(index) != '=') {
+					index++;
+				}
+				int nameEnd = index;
+				index = skipWhitespace(header, index);
+				int valueStart = index;
+				int valueEnd = index;
+				if (index < length && header.charAt(index) == '=') {
+					index = skipWhitespace(header, index + 1);
+					if (index < length && header.charAt(index) == '"') {
+						valueStart = index + 1;
+						index = skipQuotedString(header, valueStart);
+						valueEnd = Math.min(index, length);
+						index = Math.min(index + 1, length);
+					}
+					else {
+						valueStart = index;
+						while (index < length && !isDelimiter(header.charAt(index))) {
+							index++;
+						}
+						valueEnd = index;
+					}
+				}
+				if (nameEnd - nameStart == 3 && header.regionMatches(true, nameStart, "rel", 0, 3)) {
+					isNext |= hasRelationType(header, valueStart, valueEnd, NEXT);
+					isLast |= hasRelationType(header, valueStart, valueEnd, LAST);
+				}
+			}
+			if (isNext && next == null) {
+				next = header.substring(uriStart, uriEnd);
+			}
+			if (isLast && last == null) {
+				last = header.substring(uriStart, uriEnd);
+			}
+			index = skipToEndOfLink(header, index);
+		}
+		return links(next, last);
+	}
+
+	private Map<String, String> links(String next, String last) {
+		if (next != null) {
+			return (last != null) ? Map.of(NEXT, next, LAST, last) : Map.of(NEXT, next);
+		}
+		return (last != null) ? Map.of(LAST, last) : Collections.emptyMap();
+	}
+
+	private boolean hasRelationType(String header, int start, int end, String type) {
+		int index = start;
+		while (index < end) {
+			while (index < end && header.charAt(index) == ' ') {
+				index++;
+			}
+			int typeStart = index;
+			while (index < end && header.charAt(index) != ' ') {
+				index++;
+			}
+			if (index - typeStart == type.length() && header.regionMatches(true, typeStart, type, 0, type.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int skipQuotedString(String header, int index) {
+		int position = index;
+		while (position < header.length() && header.charAt(position) != '"') {
+			position += (header.charAt(position) == '\\') ? 2 : 1;
+		}
+		return position;
+	}
+
+	private int skipToEndOfLink(String header, int index) {
+		int position = index;
+		while (position < header.length() && header.charAt(position) != ',') {
+			if (header.charAt(position) == '"') {
+				position = skipQuotedString(header, position + 1);
+			}
+			position++;
+		}
+		return position;
+	}
+
+	private int skipWhitespace(String header, int index) {
+		int position = index;
+		while (position < header.length() && isWhitespace(header.charAt(position))) {
+			position++;
+		}
+		return position;
+	}
+
+	private int skipWhitespaceAndCommas(String header, int index) {
+		int position = index;
+		while (position < header.length()
+				&& (isWhitespace(header.charAt(position)) || header.charAt(position) == ',')) {
+			position++;
+		}
+		return position;
+	}
+
+	private boolean isDelimiter(char c) {
+		return c == ';' || c == ',' || isWhitespace(c);
+	}
+
+	private boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t';
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,80 +16,236 @@
 
 package io.spring.calendar.release;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.spring.calendar.release.Release.Type;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 /**
- * An in-memory implementation of {@code ReleaseRepository}.
+ * An in-memory implementation of {@code ReleaseRepository}. Readers see an immutable
+ * snapshot without locking. Writers are serialized and publish each
+ * {@link ReleasesChangedEvent} before releasing their lock so that listeners receive
+ * changes in generation order.
  *
  * @author Andy Wilkinson
  * @author Brian Clozel
  */
 @Repository
-class InMemoryReleaseRepository implements ReleaseRepository {
+class InMemoryReleaseRepository implements ReleaseRepository, MeterBinder {
 
-	private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+	private final Object monitor = new Object();
 
-	private List<Release> releases = Collections.emptyList();
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	private volatile Instant lastUpdated;
+
+	private volatile boolean stale;
+
+	InMemoryReleaseRepository(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
 
 	@Override
 	public void set(List<Release> releases) {
-		this.lock.writeLock().lock();
-		try {
-			this.releases = new ArrayList<>(releases);
+		synchronized (this.monitor) {
+			publish(applyUpdate(groupByProject(releases), true, this.snapshot.generation + 1));
 		}
-		finally {
-			this.lock.writeLock().unlock();
+	}
+
+	@Override
+	public ReleaseChanges replace(Map<String, List<Release>> releasesByProject) {
+		synchronized (this.monitor) {
+			Map<String, List<Release>> replacements = new LinkedHashMap<>();
+			for (String project : this.snapshot.releasesByProject.keySet()) {
+				replacements.put(project, Collections.emptyList());
+			}
+			replacements.putAll(releasesByProject);
+			return publish(applyUpdate(replacements, true, this.snapshot.generation + 1));
 		}
 	}
 
 	@Override
-	public List<Release> findAllOfType(Type type) {
-		this.lock.readLock().lock();
-		try {
-			return this.releases.stream().filter(matches(type)).toList();
+	public void restore(List<Release> releases, Instant lastUpdated, long generation) {
+		synchronized (this.monitor) {
+			if (this.lastUpdated != null) {
+				return;
+			}
+			ReleaseChanges changes = applyUpdate(groupByProject(releases), false, generation);
+			this.lastUpdated = lastUpdated;
+			this.stale = true;
+			publish(changes);
 		}
-		finally {
-			this.lock.readLock().unlock();
+	}
+
+	private Map<String, List<Release>> groupByProject(List<Release> releases) {
+		Map<String, List<Release>> releasesByProject = new LinkedHashMap<>();
+		for (String project : this.snapshot.releasesByProject.keySet()) {
+			releasesByProject.put(project, Collections.emptyList());
+		}
+		for (Release release : releases) {
+			List<Release> projectReleases = releasesByProject.get(release.getProject());
+			if (projectReleases == null || projectReleases.isEmpty()) {
+				projectReleases = new ArrayList<>();
+				releasesByProject.put(release.getProject(), projectReleases);
+			}
+			projectReleases.add(release);
 		}
+		return releasesByProject;
 	}
 
 	@Override
-	public List<Release> findAllOfTypeInPeriod(Type type, Date start, Date end) {
-		this.lock.readLock().lock();
-		try {
-			return this.releases.stream().filter(isWithinPeriod(start, end)).filter(matches(type)).toList();
+	public ReleaseChanges update(Map<String, List<Release>> releasesByProject) {
+		synchronized (this.monitor) {
+			return publish(applyUpdate(releasesByProject, false, this.snapshot.generation + 1));
+		}
+	}
+
+	private ReleaseChanges publish(ReleaseChanges changes) {
+		if (!changes.isEmpty()) {
+			this.eventPublisher.publishEvent(new ReleasesChangedEvent(this, changes));
+		}
+		return changes;
+	}
+
+	private ReleaseChanges applyUpdate(Map<String, List<Release>> releasesByProject, boolean complete,
+			long generation) {
+		this.lastUpdated = Instant.now();
+		if (complete) {
+			this.stale = false;
+		}
+		Snapshot current = this.snapshot;
+		Set<String> changedProjects = new LinkedHashSet<>();
+		List<Release> replacements = new ArrayList<>();
+		List<Release> added = new ArrayList<>();
+		List<Release> changed = new ArrayList<>();
+		List<Release> removed = new ArrayList<>();
+		for (Map.Entry<String, List<Release>> entry : releasesByProject.entrySet()) {
+			List<Release> existing = current.releasesByProject.getOrDefault(entry.getKey(), Collections.emptyList());
+			if (!existing.equals(entry.getValue())) {
+				changedProjects.add(entry.getKey());
+				replacements.addAll(entry.getValue());
+				diff(existing, entry.getValue(), added, changed, removed);
+			}
+		}
+		if (changedProjects.isEmpty()) {
+			return new ReleaseChanges(current.generation, changedProjects);
 		}
-		finally {
-			this.lock.readLock().unlock();
+		Map<String, List<Release>> updatedReleasesByProject = new LinkedHashMap<>(current.releasesByProject);
+		for (String project : changedProjects) {
+			List<Release> projectReleases = releasesByProject.get(project);
+			if (projectReleases.isEmpty()) {
+				updatedReleasesByProject.remove(project);
+			}
+			else {
+				updatedReleasesByProject.put(project, List.copyOf(projectReleases));
+			}
 		}
+		Snapshot updated = new Snapshot(generation, Collections.unmodifiableMap(updatedReleasesByProject),
+				current.index.withProjects(changedProjects, replacements));
+		this.snapshot = updated;
+		return new ReleaseChanges(updated.generation, changedProjects, added, changed, removed);
 	}
 
-	private Predicate<Release> isWithinPeriod(Date start, Date end) {
-		return (release) -> {
-			try {
-				Date date = new SimpleDateFormat("yyyy-MM-dd").parse(release.getDate());
-				return !(date.before(start) || date.after(end));
+	private void diff(List<Release> existing, List<Release> updated, List<Release> added, List<Release> changed,
+			List<Release> removed) {
+		Map<ReleaseKey, Release> remaining = new LinkedHashMap<>();
+		for (Release release : existing) {
+			remaining.put(ReleaseKey.of(release), release);
+		}
+		for (Release release : updated) {
+			Release previous = remaining.remove(ReleaseKey.of(release));
+			if (previous == null) {
+				added.add(release);
 			}
-			catch (ParseException ex) {
-				return true;
+			else if (!previous.equals(release)) {
+				changed.add(release);
 			}
-		};
+		}
+		removed.addAll(remaining.values());
+	}
+
+	@Override
+	public Set<String> getProjects() {
+		return this.snapshot.releasesByProject.keySet();
+	}
+
+	@Override
+	public long getGeneration() {
+		return this.snapshot.generation;
+	}
+
+	@Override
+	public long getEpoch() {
+		return this.epoch;
+	}
+
+	@Override
+	public Instant getLastUpdated() {
+		return this.lastUpdated;
+	}
+
+	@Override
+	public boolean isStale() {
+		return this.stale;
+	}
+
+	@Override
+	public List<Release> findAllOfType(Type type) {
+		return this.snapshot.index.findAllOfType(type);
+	}
+
+	@Override
+	public List<Release> findAllOfTypeInPeriod(Type type, Date start, Date end) {
+		return this.snapshot.index.findAllOfTypeInPeriod(type, start, end);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (Type type : Type.values()) {
+			Gauge.builder("releases", this, (repository) -> repository.snapshot.index.countOfType(type))
+				.description("Releases in the repository")
+				.tag("type", type.name())
+				.register(registry);
+		}
 	}
 
-	private Predicate<Release> matches(Type type) {
-		return (release) -> (type != null) ? release.getType() == type : true;
+	/**
+	 * An immutable snapshot of the repository's contents.
+	 */
+	private static final class Snapshot {
+
+		private static final Snapshot EMPTY = new Snapshot(0, Collections.emptyMap(), ReleaseIndex.EMPTY);
+
+		private final long generation;
+
+		private final Map<String, List<Release>> releasesByProject;
+
+		private final ReleaseIndex index;
+
+		private Snapshot(long generation, Map<String, List<Release>> releasesByProject, ReleaseIndex index) {
+			this.generation = generation;
+			this.releasesByProject = releasesByProject;
+			this.index = index;
+		}
+
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,7 @@
 package io.spring.calendar.release;
 
 import java.net.URL;
-import java.time.LocalDate;
-import java.time.ZoneId;
+import java.util.Objects;
 
 /**
  * A release of a project.
@@ -39,6 +38,8 @@ public class Release {
 
 	private final Type type;
 
+	private final String description;
+
 	/**
 	 * Creates a new {@code Release}.
 	 * @param project the project
@@ -55,12 +56,17 @@ public class Release {
 		this.status = status;
 		this.url = url;
 		this.type = type;
+		this.description = (type == Type.ENTERPRISE) ? project + " " + name + " (Enterprise)" : project + " " + name;
 	}
 
 	String getProject() {
 		return this.project;
 	}
 
+	String getName() {
+		return this.name;
+	}
+
 	String getDate() {
 		return this.date;
 	}
@@ -69,11 +75,6 @@ public class Release {
 		return this.status;
 	}
 
-	boolean isOverdue() {
-		return this.status == Status.OPEN
-				&& LocalDate.now(ZoneId.of("Europe/London")).isAfter(LocalDate.parse(this.date));
-	}
-
 	URL getUrl() {
 		return this.url;
 	}
@@ -83,17 +84,36 @@ public class Release {
 	}
 
 	String getDescription() {
-		String description = this.project + " " + this.name;
-		if (this.type == Type.ENTERPRISE) {
-			description = description + " (Enterprise)";
-		}
-		return description;
+		return this.description;
 	}
 
 	Release withProject(String project) {
 		return new Release(project, this.name, this.date, this.status, this.url, this.type);
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		Release other = (Release) obj;
+		return Objects.equals(this.project, other.project) && Objects.equals(this.name, other.name)
+				&& Objects.equals(this.date, other.date) && this.status == other.status
+				&& Objects.equals(urlString(), other.urlString()) && this.type == other.type;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.project, this.name, this.date, this.status, urlString(), this.type);
+	}
+
+	private String urlString() {
+		return (this.url != null) ? this.url.toString() : null;
+	}
+
 	/**
 	 * Type of the release.
 	 */
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * A bounded, in-memory log of the most recent {@link ReleaseChanges changes} to a
+ * {@link ReleaseRepository ReleaseRepository's} contents from which the changes made
+ * since a generation of the repository can be found.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseChangeLog {
+
+	private final Object monitor = new Object();
+
+	private final NavigableMap<Long, ReleaseChanges> entries = new TreeMap<>();
+
+	private final ReleaseRepository releaseRepository;
+
+	private final int capacity;
+
+	/**
+	 * Creates a new {@code ReleaseChangeLog}.
+	 * @param releaseRepository the repository whose changes are logged
+	 * @param capacity the number of the most recent changes that are retained
+	 */
+	ReleaseChangeLog(ReleaseRepository releaseRepository, int capacity) {
+		this.releaseRepository = releaseRepository;
+		this.capacity = capacity;
+	}
+
+	@EventListener
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	void onReleasesChanged(ReleasesChangedEvent event) {
+		append(event.getChanges());
+	}
+
+	/**
+	 * Appends the given {@code changes} to the log in generation order, discarding the
+	 * oldest changes if the log is full. Changes with a generation that is already in the
+	 * log are ignored.
+	 * @param changes the changes to append
+	 */
+	void append(ReleaseChanges changes) {
+		synchronized (this.monitor) {
+			this.entries.putIfAbsent(changes.getGeneration(), changes);
+			while (this.entries.size() > this.capacity) {
+				this.entries.pollFirstEntry();
+			}
+		}
+	}
+
+	/**
+	 * Returns the generation of the repository after the most recent changes in the log.
+	 * @return the generation
+	 */
+	long getGeneration() {
+		synchronized (this.monitor) {
+			return (!this.entries.isEmpty()) ? this.entries.lastKey() : this.releaseRepository.getGeneration();
+		}
+	}
+
+	/**
+	 * Returns the token that identifies the repository's generation after the most recent
+	 * changes in the log.
+	 * @return the token
+	 */
+	String getToken() {
+		return tokenFor(getGeneration());
+	}
+
+	/**
+	 * Returns the token that identifies the given {@code generation} of the repository.
+	 * A token has the form {@code <epoch>-<generation>} where the epoch is the
+	 * repository's {@link ReleaseRepository#getEpoch() epoch} in hexadecimal.
+	 * @param generation the generation
+	 * @return the token
+	 */
+	String tokenFor(long generation) {
+		return "%x-%d".formatted(this.releaseRepository.getEpoch(), generation);
+	}
+
+	/**
+	 * Returns the changes that have been made since the generation identified by the
+	 * given {@code token}.
+	 * @param token the token
+	 * @return the changes or {@code null} if the token is malformed, was issued by
+	 * another instance of the repository, or the log does not retain all of the changes
+	 * since its generation
+	 * @see #findSince(long)
+	 */
+	ReleaseChanges findSince(String token) {
+		int separator = token.indexOf('-');
+		if (separator < 0) {
+			return null;
+		}
+		try {
+			long epoch = Long.parseLong(token.substring(0, separator), 16);
+			long generation = Long.parseLong(token.substring(separator + 1));
+			return (epoch == this.releaseRepository.getEpoch()) ? findSince(generation) : null;
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the changes that have been made since the given {@code generation} of the
+	 * repository. A release that was added and then changed is described as added, one
+	 * that was added and then removed is omitted, and one that was removed and then added
+	 * again is described as changed.
+	 * @param generation the generation
+	 * @return the changes or {@code null} if the log does not retain all of the changes
+	 * since the generation or it is not a generation of the repository
+	 */
+	ReleaseChanges findSince(long generation) {
+		synchronized (this.monitor) {
+			long current = getGeneration();
+			if (generation == current) {
+				return new ReleaseChanges(current, Collections.emptySet());
+			}
+			if (this.entries.isEmpty() || generation < this.entries.firstKey() - 1 || generation > current) {
+				return null;
+			}
+			Set<String> changedProjects = new LinkedHashSet<>();
+			Map<ReleaseKey, Change> combined = new LinkedHashMap<>();
+			long expected = generation + 1;
+			for (ReleaseChanges entry : this.entries.tailMap(generation, false).values()) {
+				if (entry.getGeneration() != expected++) {
+					return null;
+				}
+				changedProjects.addAll(entry.getChangedProjects());
+				entry.getAdded().forEach((release) -> combine(combined, Kind.ADDED, release));
+				entry.getChanged().forEach((release) -> combine(combined, Kind.CHANGED, release));
+				entry.getRemoved().forEach((release) -> combine(combined, Kind.REMOVED, release));
+			}
+			return toReleaseChanges(current, changedProjects, combined.values());
+		}
+	}
+
+	private void combine(Map<ReleaseKey, Change> combined, Kind kind, Release release) {
+		ReleaseKey key = ReleaseKey.of(release);
+		Change previous = combined.get(key);
+		Kind previousKind = (previous != null) ? previous.kind() : null;
+		if (previousKind == Kind.ADDED && kind == Kind.REMOVED) {
+			combined.remove(key);
+		}
+		else if (previousKind == Kind.ADDED) {
+			combined.put(key, new Change(Kind.ADDED, release));
+		}
+		else if (previousKind != null && kind != Kind.REMOVED) {
+			combined.put(key, new Change(Kind.CHANGED, release));
+		}
+		else {
+			combined.put(key, new Change(kind, release));
+		}
+	}
+
+	private ReleaseChanges toReleaseChanges(long generation, Set<String> changedProjects, Iterable<Change> changes) {
+		List<Release> added = new ArrayList<>();
+		List<Release> changed = new ArrayList<>();
+		List<Release> removed = new ArrayList<>();
+		for (Change change : changes) {
+			switch (change.kind()) {
+				case ADDED -> added.add(change.release());
+				case CHANGED -> changed.add(change.release());
+				case REMOVED -> removed.add(change.release());
+			}
+		}
+		return new ReleaseChanges(generation, changedProjects, added, changed, removed);
+	}
+
+	private enum Kind {
+
+		ADDED, CHANGED, REMOVED
+
+	}
+
+	private record Change(Kind kind, Release release) {
+
+	}
+
+}
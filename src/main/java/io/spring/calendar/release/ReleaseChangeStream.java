@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.calendar.release.Release.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * A stream of the changes to a {@link ReleaseRepository ReleaseRepository's} contents
+ * that is pushed to its subscribers as server-sent events. Each
+ * {@link ReleasesChangedEvent} becomes a {@code releases} event whose id is the
+ * {@link ReleaseChangeLog#tokenFor(long) token} of the repository's generation after the
+ * change and whose data is the
+ * {@link ReleaseEventChanges events of the releases} that were added, changed, and
+ * removed. A subscriber may only be interested in one {@link Type} of release, in which
+ * case it is not sent changes that do not affect that type. A subscriber that reconnects
+ * with the id of the last event that it received resumes from where it left off with a
+ * single event that combines the changes that it missed, as found in the
+ * {@link ReleaseChangeLog}. If the change log no longer retains those changes, it is
+ * sent a {@code reset} event instead and should reload all releases.
+ * <p>
+ * Each subscriber's events are queued in a bounded buffer and sent using the executor so
+ * that a slow subscriber does not delay the others. A subscriber whose buffer is full is
+ * evicted by completing its stream, either immediately or, if an event is being sent to
+ * it, once that send returns. A heartbeat comment is sent periodically so that idle
+ * connections are kept open and closed connections are detected.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseChangeStream {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaseChangeStream.class);
+
+	private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+	private static final Message HEARTBEAT = new Message(null, null, null);
+
+	private final Object monitor = new Object();
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	private final ReleaseChangeLog releaseChangeLog;
+
+	private final ObjectMapper objectMapper;
+
+	private final Executor executor;
+
+	private final int bufferSize;
+
+	/**
+	 * Creates a new {@code ReleaseChangeStream}.
+	 * @param releaseChangeLog the log of changes from which subscribers resume
+	 * @param objectMapper the object mapper used to serialize the changes
+	 * @param executor the executor used to send events to subscribers
+	 * @param bufferSize the maximum number of events that may be waiting to be sent to a
+	 * subscriber before it is evicted
+	 */
+	ReleaseChangeStream(ReleaseChangeLog releaseChangeLog, ObjectMapper objectMapper, Executor executor,
+			int bufferSize) {
+		this.releaseChangeLog = releaseChangeLog;
+		this.objectMapper = objectMapper;
+		this.executor = executor;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Subscribes the given {@code emitter} to the stream. If {@code lastEventId} is not
+	 * {@code null}, the changes that were made after the generation that it identifies
+	 * are sent before any subsequent changes.
+	 * @param emitter the emitter to which events are sent
+	 * @param type the type of releases of interest or {@code null} for all releases
+	 * @param lastEventId the id of the last event that the subscriber received or
+	 * {@code null}
+	 */
+	void subscribe(SseEmitter emitter, Type type, String lastEventId) {
+		Subscriber subscriber = new Subscriber(emitter, type);
+		emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+		emitter.onError((ex) -> this.subscribers.remove(subscriber));
+		synchronized (this.monitor) {
+			this.subscribers.add(subscriber);
+			if (lastEventId != null) {
+				resume(subscriber, lastEventId);
+			}
+			else {
+				subscriber.generation = this.releaseChangeLog.getGeneration();
+			}
+		}
+	}
+
+	private void resume(Subscriber subscriber, String lastEventId) {
+		ReleaseChanges missed = this.releaseChangeLog.findSince(lastEventId);
+		if (missed == null) {
+			long generation = this.releaseChangeLog.getGeneration();
+			String token = this.releaseChangeLog.tokenFor(generation);
+			subscriber.generation = generation;
+			subscriber.offer(new Message(token, "reset", serialize(ReleaseEventChanges.resync(token))));
+			return;
+		}
+		subscriber.generation = missed.getGeneration();
+		Message message = render(this.releaseChangeLog.tokenFor(missed.getGeneration()), missed, subscriber.type,
+				LocalDate.now(LONDON).toEpochDay());
+		if (message != null) {
+			subscriber.offer(message);
+		}
+	}
+
+	/**
+	 * Returns the number of current subscribers.
+	 * @return the number of subscribers
+	 */
+	int getSubscriberCount() {
+		return this.subscribers.size();
+	}
+
+	@EventListener
+	void onReleasesChanged(ReleasesChangedEvent event) {
+		RenderedChanges changes = render(event.getChanges());
+		synchronized (this.monitor) {
+			for (Subscriber subscriber : this.subscribers) {
+				Message message = changes.message(subscriber.type);
+				if (changes.generation > subscriber.generation && message != null) {
+					subscriber.offer(message);
+				}
+			}
+		}
+	}
+
+	@Scheduled(fixedRateString = "${calendar.releases.stream.heartbeat-interval:15s}")
+	void sendHeartbeats() {
+		for (Subscriber subscriber : this.subscribers) {
+			subscriber.offer(HEARTBEAT);
+		}
+	}
+
+	private RenderedChanges render(ReleaseChanges changes) {
+		long today = LocalDate.now(LONDON).toEpochDay();
+		String id = this.releaseChangeLog.tokenFor(changes.getGeneration());
+		Message[] messages = new Message[Type.values().length + 1];
+		messages[0] = render(id, changes, null, today);
+		for (Type type : Type.values()) {
+			messages[type.ordinal() + 1] = render(id, changes, type, today);
+		}
+		return new RenderedChanges(changes.getGeneration(), messages);
+	}
+
+	private Message render(String id, ReleaseChanges changes, Type type, long today) {
+		ReleaseEventChanges events = ReleaseEventChanges.of(id, changes, type, today);
+		if (events.added().isEmpty() && events.changed().isEmpty() && events.removed().isEmpty()) {
+			return null;
+		}
+		return new Message(id, "releases", serialize(events));
+	}
+
+	private String serialize(ReleaseEventChanges events) {
+		try {
+			return this.objectMapper.writeValueAsString(events);
+		}
+		catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * A message to be sent to a subscriber. A message without a name is a heartbeat.
+	 */
+	private record Message(String id, String name, String data) {
+
+		private SseEventBuilder toEvent() {
+			if (this.name == null) {
+				return SseEmitter.event().comment("heartbeat");
+			}
+			return SseEmitter.event().id(this.id).name(this.name).data(this.data);
+		}
+
+	}
+
+	/**
+	 * The messages for one change to the repository, one for each type of release and
+	 * one for all releases.
+	 */
+	private static final class RenderedChanges {
+
+		private final long generation;
+
+		private final Message[] messages;
+
+		private RenderedChanges(long generation, Message[] messages) {
+			this.generation = generation;
+			this.messages = messages;
+		}
+
+		private Message message(Type type) {
+			return this.messages[(type != null) ? type.ordinal() + 1 : 0];
+		}
+
+	}
+
+	/**
+	 * A subscriber to the stream with a bounded buffer of messages that are waiting to
+	 * be sent.
+	 */
+	private final class Subscriber {
+
+		private final SseEmitter emitter;
+
+		private final Type type;
+
+		private final BlockingQueue<Message> buffer;
+
+		private final AtomicBoolean sending = new AtomicBoolean();
+
+		private volatile boolean evicted;
+
+		/**
+		 * The generation up to which the subscriber has been offered changes, guarded by
+		 * the stream's monitor.
+		 */
+		private long generation;
+
+		private Subscriber(SseEmitter emitter, Type type) {
+			this.emitter = emitter;
+			this.type = type;
+			this.buffer = new ArrayBlockingQueue<>(ReleaseChangeStream.this.bufferSize);
+		}
+
+		private void offer(Message message) {
+			if (!this.buffer.offer(message)) {
+				evict();
+				return;
+			}
+			if (this.sending.compareAndSet(false, true)) {
+				ReleaseChangeStream.this.executor.execute(this::send);
+			}
+		}
+
+		private void send() {
+			try {
+				Message message;
+				while (!this.evicted && (message = this.buffer.poll()) != null) {
+					this.emitter.send(message.toEvent());
+				}
+			}
+			catch (IOException | IllegalStateException ex) {
+				ReleaseChangeStream.this.subscribers.remove(this);
+				return;
+			}
+			this.sending.set(false);
+			if (this.evicted) {
+				completeIfIdle();
+			}
+			else if (!this.buffer.isEmpty() && this.sending.compareAndSet(false, true)) {
+				ReleaseChangeStream.this.executor.execute(this::send);
+			}
+		}
+
+		private void evict() {
+			if (ReleaseChangeStream.this.subscribers.remove(this)) {
+				log.info("Evicting slow subscriber to the release change stream");
+				this.evicted = true;
+				this.buffer.clear();
+				completeIfIdle();
+			}
+		}
+
+		/**
+		 * Completes the emitter of an evicted subscriber unless an event is being sent
+		 * to it, in which case the sending thread completes it once the send returns.
+		 */
+		private void completeIfIdle() {
+			if (this.sending.compareAndSet(false, true)) {
+				this.emitter.complete();
+			}
+		}
+
+	}
+
+}
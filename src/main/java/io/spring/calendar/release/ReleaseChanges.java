@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The changes that were made by an update of a {@link ReleaseRepository}.
+ *
+ * @author agent (agent@local)
+ */
+public final class ReleaseChanges {
+
+	private final long generation;
+
+	private final Set<String> changedProjects;
+
+	private final List<Release> added;
+
+	private final List<Release> changed;
+
+	private final List<Release> removed;
+
+	/**
+	 * Creates a new {@code ReleaseChanges} that describes the given
+	 * {@code changedProjects} without describing the changes to their releases.
+	 * @param generation the generation of the repository after the update
+	 * @param changedProjects the projects whose releases changed
+	 */
+	public ReleaseChanges(long generation, Set<String> changedProjects) {
+		this(generation, changedProjects, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@code ReleaseChanges} that describes the given
+	 * {@code changedProjects} and the changes to their releases.
+	 * @param generation the generation of the repository after the update
+	 * @param changedProjects the projects whose releases changed
+	 * @param added the releases that were added
+	 * @param changed the releases that were changed, as they are after the update
+	 * @param removed the releases that were removed, as they were before the update
+	 */
+	public ReleaseChanges(long generation, Set<String> changedProjects, List<Release> added, List<Release> changed,
+			List<Release> removed) {
+		this.generation = generation;
+		this.changedProjects = Collections.unmodifiableSet(new LinkedHashSet<>(changedProjects));
+		this.added = List.copyOf(added);
+		this.changed = List.copyOf(changed);
+		this.removed = List.copyOf(removed);
+	}
+
+	/**
+	 * Returns the generation of the repository after the update. The generation
+	 * increases each time the repository's contents change.
+	 * @return the generation
+	 */
+	public long getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Returns the names of the projects whose releases were added, changed, or removed
+	 * by the update.
+	 * @return the changed projects
+	 */
+	public Set<String> getChangedProjects() {
+		return this.changedProjects;
+	}
+
+	/**
+	 * Returns the releases that were added by the update.
+	 * @return the added releases
+	 */
+	public List<Release> getAdded() {
+		return this.added;
+	}
+
+	/**
+	 * Returns the releases that were changed by the update. A release is identified by
+	 * its project, name, and type and has changed if any of its other details, such as
+	 * its date or status, are different.
+	 * @return the changed releases, as they are after the update
+	 */
+	public List<Release> getChanged() {
+		return this.changed;
+	}
+
+	/**
+	 * Returns the releases that were removed by the update.
+	 * @return the removed releases, as they were before the update
+	 */
+	public List<Release> getRemoved() {
+		return this.removed;
+	}
+
+	/**
+	 * Returns whether the update changed the contents of the repository.
+	 * @return {@code true} if there were no changes, otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return this.changedProjects.isEmpty();
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import io.spring.calendar.release.Release.Type;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for exposing the changes to the {@link Release Releases} since a
+ * generation. A client that mirrors the releases passes the
+ * {@link ReleaseChangeLog#tokenFor(long) token} of its last sync as the {@code since}
+ * parameter and receives the {@link ReleaseEventChanges events of the releases} that have
+ * been added, changed, and removed since then along with the token to use for its next
+ * sync. When the {@link ReleaseChangeLog} no longer retains all of the changes since the
+ * token, or the token was issued by another instance, the client is told to resync by
+ * reloading all of the releases.
+ *
+ * @author agent (agent@local)
+ */
+@RestController
+@CrossOrigin(origins = { "https://spring.io", "https://enterprise.spring.io" })
+class ReleaseChangesController {
+
+	private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+	private final ReleaseChangeLog releaseChangeLog;
+
+	ReleaseChangesController(ReleaseChangeLog releaseChangeLog) {
+		this.releaseChangeLog = releaseChangeLog;
+	}
+
+	@GetMapping(path = "/releases/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+	ReleaseEventChanges changes(@RequestParam String since, @RequestParam(required = false) Type type) {
+		ReleaseChanges changes = this.releaseChangeLog.findSince(since);
+		if (changes == null) {
+			return ReleaseEventChanges.resync(this.releaseChangeLog.getToken());
+		}
+		String token = this.releaseChangeLog.tokenFor(changes.getGeneration());
+		return ReleaseEventChanges.of(token, changes, type, LocalDate.now(LONDON).toEpochDay());
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration for release-related functionality.
+ *
+ * @author agent (agent@local)
+ */
+@Configuration
+@EnableConfigurationProperties(ReleaseProperties.class)
+class ReleaseConfiguration {
+
+	@Bean(initMethod = "load")
+	ReleaseSnapshotStore releaseSnapshotStore(ReleaseRepository releaseRepository,
+			ReleaseProperties releaseProperties) {
+		return new ReleaseSnapshotStore(releaseRepository, releaseProperties.getSnapshot().getFile());
+	}
+
+	@Bean
+	ReleaseChangeStream releaseChangeStream(ReleaseChangeLog releaseChangeLog, ObjectMapper objectMapper,
+			@Qualifier("releaseChangeStreamExecutor") Executor executor, ReleaseProperties releaseProperties) {
+		return new ReleaseChangeStream(releaseChangeLog, objectMapper, executor,
+				releaseProperties.getStream().getBufferSize());
+	}
+
+	@Bean(defaultCandidate = false)
+	ThreadPoolTaskExecutor releaseChangeStreamExecutor(ReleaseProperties releaseProperties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(releaseProperties.getStream().getThreads());
+		executor.setMaxPoolSize(releaseProperties.getStream().getThreads());
+		executor.setThreadNamePrefix("release-stream-");
+		return executor;
+	}
+
+	@Bean
+	ReleaseChangeLog releaseChangeLog(ReleaseRepository releaseRepository, ReleaseProperties releaseProperties) {
+		return new ReleaseChangeLog(releaseRepository, releaseProperties.getChanges().getHistory());
+	}
+
+}
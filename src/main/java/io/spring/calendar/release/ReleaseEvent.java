@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.spring.calendar.release.Release.Status;
+
+/**
+ * A Full Calendar event for a {@link Release}. An event's title and colour are computed
+ * once when it is created from its release. Whether an open release is overdue depends
+ * on the current date so an {@link #overdue() overdue} variant of its event is created
+ * alongside it.
+ *
+ * @param title the title of the event
+ * @param allDay whether the event lasts all day
+ * @param start the start date of the event (yyyy-mm-dd)
+ * @param url the URL of the event or {@code null}
+ * @param backgroundColor the background colour of the event or {@code null}
+ * @author agent (agent@local)
+ */
+@JsonInclude(Include.NON_NULL)
+record ReleaseEvent(String title, boolean allDay, String start, String url, String backgroundColor) {
+
+	private static final String CLOSED_COLOR = "#6db33f";
+
+	private static final String OVERDUE_COLOR = "#d14";
+
+	/**
+	 * Creates the event for the given {@code release}.
+	 * @param release the release
+	 * @return the event
+	 */
+	static ReleaseEvent of(Release release) {
+		return new ReleaseEvent(release.getDescription(), true, release.getDate(),
+				(release.getUrl() != null) ? release.getUrl().toString() : null,
+				(release.getStatus() == Status.CLOSED) ? CLOSED_COLOR : null);
+	}
+
+	/**
+	 * Returns a variant of this event for when its release is overdue.
+	 * @return the overdue event
+	 */
+	ReleaseEvent overdue() {
+		return new ReleaseEvent(this.title, this.allDay, this.start, this.url, OVERDUE_COLOR);
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import io.spring.calendar.release.Release.Status;
+
+/**
+ * {@link ReleaseEvent Events} for {@link Release Releases} that have been serialized as
+ * JSON once and grouped into buckets by the month of their release date. The events in a
+ * period are found by visiting the buckets of the months that the period spans and are
+ * returned as a JSON array by concatenating their serialized bytes. The
+ * {@link ReleaseEvent#overdue() overdue} variant of an open release's event is also
+ * serialized up front and is returned instead once the release's date has passed.
+ * Events for releases whose date cannot be parsed are always returned.
+ *
+ * @author agent (agent@local)
+ */
+final class ReleaseEventBuckets {
+
+	private static final byte[] EMPTY = { '[', ']' };
+
+	private final NavigableMap<YearMonth, Bucket> buckets;
+
+	private final List<byte[]> undated;
+
+	private ReleaseEventBuckets(NavigableMap<YearMonth, Bucket> buckets, List<byte[]> undated) {
+		this.buckets = buckets;
+		this.undated = undated;
+	}
+
+	/**
+	 * Creates a new {@code ReleaseEventBuckets} for the given {@code releases}, using the
+	 * given {@code serializer} to serialize each release's event.
+	 * @param releases the releases
+	 * @param serializer serializes an event as JSON
+	 * @return the buckets
+	 */
+	static ReleaseEventBuckets of(List<Release> releases, Function<ReleaseEvent, byte[]> serializer) {
+		List<DatedEvent> dated = new ArrayList<>(releases.size());
+		List<byte[]> undated = new ArrayList<>();
+		for (Release release : releases) {
+			ReleaseEvent event = ReleaseEvent.of(release);
+			Long epochDay = ReleaseIndex.epochDay(release);
+			if (epochDay != null) {
+				byte[] overdue = (release.getStatus() == Status.OPEN) ? serializer.apply(event.overdue()) : null;
+				dated.add(new DatedEvent(epochDay, serializer.apply(event), overdue));
+			}
+			else {
+				undated.add(serializer.apply(event));
+			}
+		}
+		dated.sort(Comparator.comparingLong(DatedEvent::epochDay));
+		Map<YearMonth, List<DatedEvent>> eventsByMonth = new TreeMap<>();
+		for (DatedEvent event : dated) {
+			eventsByMonth.computeIfAbsent(YearMonth.from(LocalDate.ofEpochDay(event.epochDay())),
+					(month) -> new ArrayList<>())
+				.add(event);
+		}
+		NavigableMap<YearMonth, Bucket> buckets = new TreeMap<>();
+		eventsByMonth.forEach((month, events) -> buckets.put(month, Bucket.of(events)));
+		return new ReleaseEventBuckets(buckets, List.copyOf(undated));
+	}
+
+	/**
+	 * Returns a JSON array of the events with a release date in the given period.
+	 * @param start the start of the period
+	 * @param end the end of the period
+	 * @param today the epoch day of the current date, used to determine whether an open
+	 * release is overdue
+	 * @return the JSON array of events
+	 */
+	byte[] findAllInPeriod(Date start, Date end, long today) {
+		long from = ReleaseIndex.firstEpochDayOnOrAfter(start);
+		long to = ReleaseIndex.lastEpochDayOnOrBefore(end);
+		List<byte[]> events = new ArrayList<>();
+		if (from <= to) {
+			YearMonth first = YearMonth.from(LocalDate.ofEpochDay(from));
+			YearMonth last = YearMonth.from(LocalDate.ofEpochDay(to));
+			for (Bucket bucket : this.buckets.subMap(first, true, last, true).values()) {
+				bucket.collect(from, to, today, events);
+			}
+		}
+		events.addAll(this.undated);
+		return toJsonArray(events);
+	}
+
+	private byte[] toJsonArray(List<byte[]> events) {
+		if (events.isEmpty()) {
+			return EMPTY;
+		}
+		int length = events.size() + 1;
+		for (byte[] event : events) {
+			length += event.length;
+		}
+		byte[] array = new byte[length];
+		array[0] = '[';
+		int position = 1;
+		for (int i = 0; i < events.size(); i++) {
+			if (i > 0) {
+				array[position++] = ',';
+			}
+			byte[] event = events.get(i);
+			System.arraycopy(event, 0, array, position, event.length);
+			position += event.length;
+		}
+		array[position] = ']';
+		return array;
+	}
+
+	private record DatedEvent(long epochDay, byte[] json, byte[] overdueJson) {
+
+	}
+
+	/**
+	 * The events of a single month, sorted by release date.
+	 */
+	private static final class Bucket {
+
+		private final long[] epochDays;
+
+		private final byte[][] events;
+
+		private final byte[][] overdueEvents;
+
+		private Bucket(long[] epochDays, byte[][] events, byte[][] overdueEvents) {
+			this.epochDays = epochDays;
+			this.events = events;
+			this.overdueEvents = overdueEvents;
+		}
+
+		private void collect(long from, long to, long today, List<byte[]> collected) {
+			int low = lowerBound(from);
+			int high = lowerBound(to + 1);
+			for (int i = low; i < high; i++) {
+				boolean overdue = this.overdueEvents[i] != null && this.epochDays[i] < today;
+				collected.add((overdue) ? this.overdueEvents[i] : this.events[i]);
+			}
+		}
+
+		private int lowerBound(long epochDay) {
+			int low = 0;
+			int high = this.epochDays.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (this.epochDays[mid] < epochDay) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private static Bucket of(List<DatedEvent> events) {
+			long[] epochDays = new long[events.size()];
+			byte[][] json = new byte[events.size()][];
+			byte[][] overdueJson = new byte[events.size()][];
+			for (int i = 0; i < epochDays.length; i++) {
+				epochDays[i] = events.get(i).epochDay();
+				json[i] = events.get(i).json();
+				overdueJson[i] = events.get(i).overdueJson();
+			}
+			return new Bucket(epochDays, json, overdueJson);
+		}
+
+	}
+
+}
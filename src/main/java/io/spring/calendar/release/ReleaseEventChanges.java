@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+
+/**
+ * {@link ReleaseChanges} described as the {@link ReleaseEvent events} of the releases
+ * that were added, changed, and removed. A client that cannot be told what has changed,
+ * for example because the changes are no longer retained, is instead told to
+ * {@link #resync(String) resync} by reloading all of the releases.
+ *
+ * @param token the {@link ReleaseChangeLog#tokenFor(long) token} that identifies the
+ * generation of the repository after the changes
+ * @param resync whether all of the releases should be reloaded
+ * @param added the events of the releases that were added or {@code null}
+ * @param changed the events of the releases that were changed or {@code null}
+ * @param removed the events of the releases that were removed or {@code null}
+ * @author agent (agent@local)
+ */
+@JsonInclude(Include.NON_NULL)
+record ReleaseEventChanges(String token, boolean resync, List<ReleaseEvent> added, List<ReleaseEvent> changed,
+		List<ReleaseEvent> removed) {
+
+	/**
+	 * Creates the event changes for the given {@code changes} to releases of the given
+	 * {@code type}.
+	 * @param token the token that identifies the generation after the changes
+	 * @param changes the changes
+	 * @param type the type of releases or {@code null} for all releases
+	 * @param today the epoch day of the current date, used to determine whether an open
+	 * release is overdue
+	 * @return the event changes
+	 */
+	static ReleaseEventChanges of(String token, ReleaseChanges changes, Type type, long today) {
+		return new ReleaseEventChanges(token, false, toEvents(changes.getAdded(), type, today),
+				toEvents(changes.getChanged(), type, today), toEvents(changes.getRemoved(), type, today));
+	}
+
+	/**
+	 * Creates the event changes that tell a client to reload all releases.
+	 * @param token the token that identifies the current generation of the repository
+	 * @return the event changes
+	 */
+	static ReleaseEventChanges resync(String token) {
+		return new ReleaseEventChanges(token, true, null, null, null);
+	}
+
+	private static List<ReleaseEvent> toEvents(List<Release> releases, Type type, long today) {
+		List<ReleaseEvent> events = new ArrayList<>();
+		for (Release release : releases) {
+			if (type == null || release.getType() == type) {
+				ReleaseEvent event = ReleaseEvent.of(release);
+				Long epochDay = ReleaseIndex.epochDay(release);
+				boolean overdue = release.getStatus() == Status.OPEN && epochDay != null && epochDay < today;
+				events.add((overdue) ? event.overdue() : event);
+			}
+		}
+		return events;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,21 @@
 
 package io.spring.calendar.release;
 
+import java.io.UncheckedIOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import io.spring.calendar.release.Release.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.spring.calendar.release.Release.Type;
 
+import org.springframework.context.event.EventListener;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -34,9 +39,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
- * Controller for exposing {@link Release Releases} as Full Calendar events.
+ * Controller for exposing {@link Release Releases} as Full Calendar events. Each
+ * release's {@link ReleaseEvent event} is serialized as JSON once per
+ * {@link ReleaseRepository#getGeneration() generation} of the repository and the events
+ * are grouped into {@link ReleaseEventBuckets monthly buckets} for each type of release.
+ * A query for a period is then answered by concatenating the serialized events of the
+ * months that it spans. Responses carry a strong {@code ETag} derived from the
+ * repository's {@link ReleaseRepository#getEpoch() epoch} and generation, the query, and
+ * the current date (which determines whether an open release is overdue) and a
+ * {@code Last-Modified} header so that conditional requests can be answered with
+ * {@code 304 Not Modified}. While the repository's contents are
+ * {@link ReleaseRepository#isStale() stale}, responses carry a {@code Warning} header
+ * and a distinct {@code ETag}.
  *
  * @author Andy Wilkinson
  * @author Brian Clozel
@@ -46,33 +63,92 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = { "https://spring.io", "https://enterprise.spring.io" })
 class ReleaseEventsController {
 
+	private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+	private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
 	private final ReleaseRepository releaseRepository;
 
-	ReleaseEventsController(ReleaseRepository releaseRepository) {
+	private final ObjectMapper objectMapper;
+
+	private final AtomicReference<RenderedEvents> renderedEvents = new AtomicReference<>(new RenderedEvents(-1));
+
+	ReleaseEventsController(ReleaseRepository releaseRepository, ObjectMapper objectMapper) {
 		this.releaseRepository = releaseRepository;
+		this.objectMapper = objectMapper;
 	}
 
 	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-	List<Map<String, Object>> releases(@RequestParam String start, @RequestParam String end,
-			@RequestParam(required = false) Type type) throws ParseException {
+	ResponseEntity<byte[]> releases(@RequestParam String start, @RequestParam String end,
+			@RequestParam(required = false) Type type, WebRequest request) throws ParseException {
 		Date startDate = new SimpleDateFormat("yyyy-MM-dd").parse(start);
 		Date endDate = new SimpleDateFormat("yyyy-MM-dd").parse(end);
-		return this.releaseRepository.findAllOfTypeInPeriod(type, startDate, endDate).stream().map((release) -> {
-			Map<String, Object> event = new HashMap<>();
-			event.put("title", release.getDescription());
-			event.put("allDay", true);
-			event.put("start", release.getDate());
-			if (release.getUrl() != null) {
-				event.put("url", release.getUrl());
-			}
-			if (release.getStatus() == Status.CLOSED) {
-				event.put("backgroundColor", "#6db33f");
-			}
-			else if (release.isOverdue()) {
-				event.put("backgroundColor", "#d14");
-			}
-			return event;
-		}).toList();
+		LocalDate today = LocalDate.now(LONDON);
+		boolean stale = this.releaseRepository.isStale();
+		RenderedEvents rendered = getEvents(type);
+		String etag = "\"%x-%d-%s-%d-%d-%d%s\"".formatted(this.releaseRepository.getEpoch(), rendered.generation,
+				(type != null) ? type : "ALL", startDate.getTime(), endDate.getTime(), today.toEpochDay(),
+				(stale) ? "-stale" : "");
+		if (isNotModified(request, etag, today)) {
+			return null;
+		}
+		byte[] events = rendered.get(type).findAllInPeriod(startDate, endDate, today.toEpochDay());
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+		if (stale) {
+			response.header("Warning", STALE_WARNING);
+		}
+		return response.body(events);
+	}
+
+	@EventListener
+	void onReleasesChanged(ReleasesChangedEvent event) {
+		RenderedEvents events = new RenderedEvents(event.getChanges().getGeneration());
+		events.get(null);
+		for (Type type : Type.values()) {
+			events.get(type);
+		}
+		this.renderedEvents.set(events);
+	}
+
+	private RenderedEvents getEvents(Type type) {
+		RenderedEvents events;
+		do {
+			events = getEvents(this.releaseRepository.getGeneration());
+		}
+		while (events.get(type) == null);
+		return events;
+	}
+
+	private RenderedEvents getEvents(long generation) {
+		RenderedEvents events = this.renderedEvents.get();
+		if (events.generation < generation) {
+			RenderedEvents newer = new RenderedEvents(generation);
+			events = (this.renderedEvents.compareAndSet(events, newer)) ? newer : this.renderedEvents.get();
+		}
+		return events;
+	}
+
+	private ReleaseEventBuckets render(Type type) {
+		return ReleaseEventBuckets.of(this.releaseRepository.findAllOfType(type), this::serialize);
+	}
+
+	private byte[] serialize(ReleaseEvent event) {
+		try {
+			return this.objectMapper.writeValueAsBytes(event);
+		}
+		catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private boolean isNotModified(WebRequest request, String etag, LocalDate today) {
+		Instant lastUpdated = this.releaseRepository.getLastUpdated();
+		if (lastUpdated == null) {
+			return request.checkNotModified(etag);
+		}
+		Instant startOfToday = today.atStartOfDay(LONDON).toInstant();
+		Instant lastModified = (lastUpdated.isAfter(startOfToday)) ? lastUpdated : startOfToday;
+		return request.checkNotModified(etag, lastModified.toEpochMilli());
 	}
 
 	@ExceptionHandler
@@ -80,4 +156,39 @@ class ReleaseEventsController {
 		return ResponseEntity.badRequest().body(exc.getMessage());
 	}
 
+	/**
+	 * The events that have been rendered for a particular generation of the repository,
+	 * one set of buckets for each type of release and one for all releases. Buckets are
+	 * only rendered and retained while the repository is at that generation.
+	 */
+	private final class RenderedEvents {
+
+		private final long generation;
+
+		private final AtomicReferenceArray<ReleaseEventBuckets> buckets = new AtomicReferenceArray<>(
+				Type.values().length + 1);
+
+		private RenderedEvents(long generation) {
+			this.generation = generation;
+		}
+
+		private ReleaseEventBuckets get(Type type) {
+			int index = (type != null) ? type.ordinal() + 1 : 0;
+			ReleaseEventBuckets events = this.buckets.get(index);
+			if (events == null && isCurrent()) {
+				ReleaseEventBuckets rendered = render(type);
+				if (isCurrent()) {
+					this.buckets.compareAndSet(index, null, rendered);
+					events = this.buckets.get(index);
+				}
+			}
+			return events;
+		}
+
+		private boolean isCurrent() {
+			return ReleaseEventsController.this.releaseRepository.getGeneration() == this.generation;
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,22 +16,36 @@
 
 package io.spring.calendar.release;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import biweekly.Biweekly;
-import biweekly.ICalendar;
-import biweekly.component.VEvent;
 import io.spring.calendar.release.Release.Type;
 
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller for exposing {@link Release Releases} as an iCalendar-format download.
+ * Calendars are rendered by an {@link ICalendarWriter} once per
+ * {@link ReleaseRepository#getGeneration() generation} of the repository and the
+ * rendered bytes are then served until the repository's contents change. Responses
+ * carry a strong {@code ETag} derived from the repository's
+ * {@link ReleaseRepository#getEpoch() epoch} and generation and a {@code Last-Modified}
+ * header from the repository's last update so that conditional requests can be answered
+ * with {@code 304 Not Modified}. While the repository's contents are
+ * {@link ReleaseRepository#isStale() stale}, responses carry a {@code Warning} header
+ * and a distinct {@code ETag}.
  *
  * @author Andy Wilkinson
  */
@@ -40,18 +54,81 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = { "https://spring.io", "https://enterprise.spring.io" })
 class ReleaseICalController {
 
+	private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+	private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
 	private final ReleaseRepository releaseRepository;
 
+	private final AtomicReference<RenderedCalendars> renderedCalendars = new AtomicReference<>(
+			new RenderedCalendars(-1));
+
 	ReleaseICalController(ReleaseRepository releaseRepository) {
 		this.releaseRepository = releaseRepository;
 	}
 
 	@RequestMapping(produces = "text/calendar")
-	String calendar(@RequestParam(required = false) Type type) {
-		ICalendar calendar = new ICalendar();
-		calendar.setExperimentalProperty("X-WR-CALNAME", nameForType(type));
-		this.releaseRepository.findAllOfType(type).stream().map(this::createEvent).forEach(calendar::addEvent);
-		return Biweekly.write(calendar).go();
+	ResponseEntity<byte[]> calendar(@RequestParam(required = false) Type type, WebRequest request) {
+		boolean stale = this.releaseRepository.isStale();
+		RenderedCalendars calendars = getCalendars(type);
+		String etag = "\"%x-%d-%s%s\"".formatted(this.releaseRepository.getEpoch(), calendars.generation,
+				(type != null) ? type : "ALL", (stale) ? "-stale" : "");
+		if (isNotModified(request, etag, this.releaseRepository.getLastUpdated())) {
+			return null;
+		}
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(TEXT_CALENDAR);
+		if (stale) {
+			response.header("Warning", STALE_WARNING);
+		}
+		return response.body(calendars.get(type));
+	}
+
+	private boolean isNotModified(WebRequest request, String etag, Instant lastModified) {
+		return (lastModified != null) ? request.checkNotModified(etag, lastModified.toEpochMilli())
+				: request.checkNotModified(etag);
+	}
+
+	@EventListener
+	void onReleasesChanged(ReleasesChangedEvent event) {
+		RenderedCalendars calendars = new RenderedCalendars(event.getChanges().getGeneration());
+		calendars.get(null);
+		for (Type type : Type.values()) {
+			calendars.get(type);
+		}
+		this.renderedCalendars.set(calendars);
+	}
+
+	byte[] getCalendar(Type type) {
+		return getCalendars(type).get(type);
+	}
+
+	private RenderedCalendars getCalendars(Type type) {
+		RenderedCalendars calendars;
+		do {
+			calendars = getCalendars(this.releaseRepository.getGeneration());
+		}
+		while (calendars.get(type) == null);
+		return calendars;
+	}
+
+	private RenderedCalendars getCalendars(long generation) {
+		RenderedCalendars calendars = this.renderedCalendars.get();
+		if (calendars.generation < generation) {
+			RenderedCalendars newer = new RenderedCalendars(generation);
+			calendars = (this.renderedCalendars.compareAndSet(calendars, newer)) ? newer : this.renderedCalendars.get();
+		}
+		return calendars;
+	}
+
+	private byte[] render(Type type) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			new ICalendarWriter(output).write(nameForType(type), this.releaseRepository.findAllOfType(type));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return output.toByteArray();
 	}
 
 	private String nameForType(Type type) {
@@ -64,18 +141,38 @@ class ReleaseICalController {
 		return "Spring Releases";
 	}
 
-	private VEvent createEvent(Release release) {
-		VEvent event = new VEvent();
-		event.setSummary(release.getDescription());
-		try {
-			Date date = new SimpleDateFormat("yyyy-MM-dd").parse(release.getDate());
-			event.setDateStart(date, false);
-			event.setDateEnd(date, false);
+	/**
+	 * The calendars that have been rendered for a particular generation of the
+	 * repository, one for each type of release and one for all releases. A calendar is
+	 * only rendered and retained while the repository is at that generation.
+	 */
+	private final class RenderedCalendars {
+
+		private final long generation;
+
+		private final AtomicReferenceArray<byte[]> calendars = new AtomicReferenceArray<>(Type.values().length + 1);
+
+		private RenderedCalendars(long generation) {
+			this.generation = generation;
 		}
-		catch (ParseException ex) {
-			throw new RuntimeException(ex);
+
+		private byte[] get(Type type) {
+			int index = (type != null) ? type.ordinal() + 1 : 0;
+			byte[] calendar = this.calendars.get(index);
+			if (calendar == null && isCurrent()) {
+				byte[] rendered = render(type);
+				if (isCurrent()) {
+					this.calendars.compareAndSet(index, null, rendered);
+					calendar = this.calendars.get(index);
+				}
+			}
+			return calendar;
 		}
-		return event;
+
+		private boolean isCurrent() {
+			return ReleaseICalController.this.releaseRepository.getGeneration() == this.generation;
+		}
+
 	}
 
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.calendar.release.Release.Type;
+
+/**
+ * An immutable index of {@link Release Releases} that is partitioned by {@link Type} and
+ * sorted by release date so that the releases in a period can be found with a binary
+ * search.
+ *
+ * @author agent (agent@local)
+ */
+final class ReleaseIndex {
+
+	static final ReleaseIndex EMPTY = new ReleaseIndex(Collections.emptyList());
+
+	private final Partition all;
+
+	private final Map<Type, Partition> byType;
+
+	/**
+	 * Creates a new {@code ReleaseIndex} of the given {@code releases}.
+	 * @param releases the releases to index
+	 */
+	ReleaseIndex(List<Release> releases) {
+		this(Partition.EMPTY, new EnumMap<>(Type.class), Collections.emptySet(), Entries.of(releases));
+	}
+
+	private ReleaseIndex(Partition all, Map<Type, Partition> byType, Set<String> replacedProjects, Entries added) {
+		this.all = all.with(replacedProjects, added);
+		this.byType = new EnumMap<>(Type.class);
+		for (Type type : Type.values()) {
+			Partition partition = byType.getOrDefault(type, Partition.EMPTY);
+			this.byType.put(type, partition.with(replacedProjects, added.ofType(type)));
+		}
+	}
+
+	/**
+	 * Returns a new index in which the releases of the given {@code projects} have been
+	 * replaced with the given {@code releases}. Only the replacement releases are parsed
+	 * and sorted. The existing entries are merged with them in a single pass.
+	 * @param projects the projects whose releases are being replaced
+	 * @param releases the replacement releases
+	 * @return the new index
+	 */
+	ReleaseIndex withProjects(Set<String> projects, List<Release> releases) {
+		return new ReleaseIndex(this.all, this.byType, projects, Entries.of(releases));
+	}
+
+	/**
+	 * Returns all of the indexed releases of the given {@code type}.
+	 * @param type the release type. May be {@code null} to return all indexed releases.
+	 * @return the releases
+	 */
+	List<Release> findAllOfType(Type type) {
+		return partition(type).releases;
+	}
+
+	/**
+	 * Returns the number of indexed releases of the given {@code type}.
+	 * @param type the release type. May be {@code null} to count all indexed releases.
+	 * @return the number of releases
+	 */
+	int countOfType(Type type) {
+		return partition(type).releases.size();
+	}
+
+	/**
+	 * Returns all of the indexed releases of the given {@code type} with a release date
+	 * in the given period. Releases whose date cannot be parsed are always returned.
+	 * @param type the release type. May be {@code null} to return all indexed releases
+	 * in the given period.
+	 * @param start the start of the period
+	 * @param end the end of the period
+	 * @return the releases in the period
+	 */
+	List<Release> findAllOfTypeInPeriod(Type type, Date start, Date end) {
+		return partition(type).findAllInPeriod(start, end);
+	}
+
+	private Partition partition(Type type) {
+		return (type != null) ? this.byType.get(type) : this.all;
+	}
+
+	/**
+	 * Returns the epoch day of the given {@code release}'s date, or {@code null} if it
+	 * cannot be parsed.
+	 * @param release the release
+	 * @return the epoch day or {@code null}
+	 */
+	static Long epochDay(Release release) {
+		try {
+			return LocalDate.parse(release.getDate()).toEpochDay();
+		}
+		catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the epoch day of the first day that starts on or after the given
+	 * {@code date} in the system's default time zone.
+	 * @param date the date
+	 * @return the epoch day
+	 */
+	static long firstEpochDayOnOrAfter(Date date) {
+		ZoneId zone = ZoneId.systemDefault();
+		Instant instant = date.toInstant();
+		LocalDate day = LocalDate.ofInstant(instant, zone);
+		return (day.atStartOfDay(zone).toInstant().isBefore(instant)) ? day.toEpochDay() + 1 : day.toEpochDay();
+	}
+
+	/**
+	 * Returns the epoch day of the day that contains the given {@code date} in the
+	 * system's default time zone.
+	 * @param date the date
+	 * @return the epoch day
+	 */
+	static long lastEpochDayOnOrBefore(Date date) {
+		return LocalDate.ofInstant(date.toInstant(), ZoneId.systemDefault()).toEpochDay();
+	}
+
+	private static final class Partition {
+
+		private static final Partition EMPTY = new Partition(Collections.emptyList(), new long[0], new Release[0],
+				Collections.emptyList());
+
+		private final List<Release> releases;
+
+		private final long[] epochDays;
+
+		private final Release[] sorted;
+
+		private final List<Release> undated;
+
+		private Partition(List<Release> releases, long[] epochDays, Release[] sorted, List<Release> undated) {
+			this.releases = releases;
+			this.epochDays = epochDays;
+			this.sorted = sorted;
+			this.undated = undated;
+		}
+
+		private Partition with(Set<String> replacedProjects, Entries added) {
+			if (replacedProjects.isEmpty() && added.isEmpty()) {
+				return this;
+			}
+			List<Release> mergedReleases = new ArrayList<>(this.releases.size() + added.size());
+			retain(this.releases, replacedProjects, mergedReleases);
+			mergedReleases.addAll(added.releases);
+			long[] mergedEpochDays = new long[this.sorted.length + added.dated.size()];
+			Release[] mergedSorted = new Release[mergedEpochDays.length];
+			int count = 0;
+			int i = 0;
+			for (DatedRelease addition : added.dated) {
+				while (i < this.sorted.length && this.epochDays[i] <= addition.epochDay()) {
+					if (!replacedProjects.contains(this.sorted[i].getProject())) {
+						mergedEpochDays[count] = this.epochDays[i];
+						mergedSorted[count++] = this.sorted[i];
+					}
+					i++;
+				}
+				mergedEpochDays[count] = addition.epochDay();
+				mergedSorted[count++] = addition.release();
+			}
+			for (; i < this.sorted.length; i++) {
+				if (!replacedProjects.contains(this.sorted[i].getProject())) {
+					mergedEpochDays[count] = this.epochDays[i];
+					mergedSorted[count++] = this.sorted[i];
+				}
+			}
+			List<Release> mergedUndated = new ArrayList<>(this.undated.size() + added.undated.size());
+			retain(this.undated, replacedProjects, mergedUndated);
+			mergedUndated.addAll(added.undated);
+			return new Partition(Collections.unmodifiableList(mergedReleases), Arrays.copyOf(mergedEpochDays, count),
+					Arrays.copyOf(mergedSorted, count), Collections.unmodifiableList(mergedUndated));
+		}
+
+		private static void retain(List<Release> releases, Set<String> replacedProjects, List<Release> retained) {
+			for (Release release : releases) {
+				if (!replacedProjects.contains(release.getProject())) {
+					retained.add(release);
+				}
+			}
+		}
+
+		private List<Release> findAllInPeriod(Date start, Date end) {
+			long from = firstEpochDayOnOrAfter(start);
+			long to = lastEpochDayOnOrBefore(end);
+			int low = lowerBound(from);
+			int high = (to < from) ? low : lowerBound(to + 1);
+			if (low == high && this.undated.isEmpty()) {
+				return Collections.emptyList();
+			}
+			List<Release> inPeriod = new ArrayList<>(high - low + this.undated.size());
+			for (int i = low; i < high; i++) {
+				inPeriod.add(this.sorted[i]);
+			}
+			inPeriod.addAll(this.undated);
+			return Collections.unmodifiableList(inPeriod);
+		}
+
+		private int lowerBound(long epochDay) {
+			int low = 0;
+			int high = this.epochDays.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (this.epochDays[mid] < epochDay) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+	}
+
+	/**
+	 * Releases that are being added to an index, with their dates parsed and sorted.
+	 */
+	private static final class Entries {
+
+		private final List<Release> releases;
+
+		private final List<DatedRelease> dated;
+
+		private final List<Release> undated;
+
+		private Entries(List<Release> releases, List<DatedRelease> dated, List<Release> undated) {
+			this.releases = releases;
+			this.dated = dated;
+			this.undated = undated;
+		}
+
+		private boolean isEmpty() {
+			return this.releases.isEmpty();
+		}
+
+		private int size() {
+			return this.releases.size();
+		}
+
+		private Entries ofType(Type type) {
+			return new Entries(this.releases.stream().filter((release) -> release.getType() == type).toList(),
+					this.dated.stream().filter((entry) -> entry.release().getType() == type).toList(),
+					this.undated.stream().filter((release) -> release.getType() == type).toList());
+		}
+
+		private static Entries of(List<Release> releases) {
+			List<Release> copy = List.copyOf(releases);
+			List<DatedRelease> dated = new ArrayList<>(copy.size());
+			List<Release> undated = new ArrayList<>();
+			for (Release release : copy) {
+				Long epochDay = epochDay(release);
+				if (epochDay != null) {
+					dated.add(new DatedRelease(epochDay, release));
+				}
+				else {
+					undated.add(release);
+				}
+			}
+			dated.sort(Comparator.comparingLong(DatedRelease::epochDay));
+			return new Entries(copy, dated, undated);
+		}
+
+	}
+
+	private record DatedRelease(long epochDay, Release release) {
+
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import io.spring.calendar.release.Release.Type;
+
+/**
+ * The identity of a {@link Release}. Two releases with the same key are different
+ * versions of the same release.
+ *
+ * @param project the project of the release
+ * @param name the name of the release
+ * @param type the type of the release
+ * @author agent (agent@local)
+ */
+record ReleaseKey(String project, String name, Type type) {
+
+	/**
+	 * Returns the key of the given {@code release}.
+	 * @param release the release
+	 * @return the key
+	 */
+	static ReleaseKey of(Release release) {
+		return new ReleaseKey(release.getProject(), release.getName(), release.getType());
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for releases.
+ *
+ * @author agent (agent@local)
+ */
+@ConfigurationProperties("calendar.releases")
+class ReleaseProperties {
+
+	private final Snapshot snapshot;
+
+	private final Stream stream;
+
+	private final Changes changes;
+
+	ReleaseProperties(@DefaultValue Snapshot snapshot, @DefaultValue Stream stream, @DefaultValue Changes changes) {
+		this.snapshot = snapshot;
+		this.stream = stream;
+		this.changes = changes;
+	}
+
+	Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	Stream getStream() {
+		return this.stream;
+	}
+
+	Changes getChanges() {
+		return this.changes;
+	}
+
+	static class Snapshot {
+
+		private final Path file;
+
+		Snapshot(Path file) {
+			this.file = file;
+		}
+
+		/**
+		 * Returns the file to which a snapshot of the releases is written after each
+		 * update so that they can be restored following a restart.
+		 * @return the snapshot file or {@code null} if snapshots should not be written
+		 */
+		Path getFile() {
+			return this.file;
+		}
+
+	}
+
+	static class Stream {
+
+		private final int threads;
+
+		private final int bufferSize;
+
+		Stream(@DefaultValue("8") int threads, @DefaultValue("64") int bufferSize) {
+			this.threads = threads;
+			this.bufferSize = bufferSize;
+		}
+
+		/**
+		 * Returns the number of threads that send events to subscribers to the stream of
+		 * release changes.
+		 * @return the number of threads
+		 */
+		int getThreads() {
+			return this.threads;
+		}
+
+		/**
+		 * Returns the maximum number of events that may be waiting to be sent to a
+		 * subscriber to the stream of release changes before it is evicted.
+		 * @return the buffer size
+		 */
+		int getBufferSize() {
+			return this.bufferSize;
+		}
+
+	}
+
+	static class Changes {
+
+		private final int history;
+
+		Changes(@DefaultValue("100") int history) {
+			this.history = history;
+		}
+
+		/**
+		 * Returns the number of the most recent changes that are retained in the change
+		 * log so that clients can fetch the changes since their last sync.
+		 * @return the number of retained changes
+		 */
+		int getHistory() {
+			return this.history;
+		}
+
+	}
+
+}
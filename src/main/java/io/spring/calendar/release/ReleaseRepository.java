@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2019 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,11 @@
 
 package io.spring.calendar.release;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import io.spring.calendar.release.Release.Type;
 
@@ -34,6 +37,73 @@ public interface ReleaseRepository {
 	 */
 	void set(List<Release> releases);
 
+	/**
+	 * Updates the releases of the projects in the given map, replacing any releases
+	 * that were previously known for each project. A project that is mapped to an empty
+	 * list is removed. Projects that are not in the map are left unchanged.
+	 * @param releasesByProject the releases of each project to update
+	 * @return the changes that were made
+	 */
+	ReleaseChanges update(Map<String, List<Release>> releasesByProject);
+
+	/**
+	 * Replaces all of the repository's releases with the releases of the projects in the
+	 * given map. Projects that are not in the map, or that are mapped to an empty list,
+	 * are removed.
+	 * @param releasesByProject the releases of each project
+	 * @return the changes that were made
+	 */
+	ReleaseChanges replace(Map<String, List<Release>> releasesByProject);
+
+	/**
+	 * Restores releases that were previously persisted, typically as the application
+	 * starts. Restored releases are {@link #isStale() stale} until all of the
+	 * repository's releases have been {@link #set set} or {@link #replace replaced}.
+	 * Releases are not restored if the repository has already been updated.
+	 * @param releases the releases
+	 * @param lastUpdated the time at which the releases were last updated
+	 * @param generation the generation of the releases
+	 */
+	void restore(List<Release> releases, Instant lastUpdated, long generation);
+
+	/**
+	 * Returns the names of the projects for which the repository has releases.
+	 * @return the projects
+	 */
+	Set<String> getProjects();
+
+	/**
+	 * Returns the current generation of the repository. The generation increases each
+	 * time the repository's contents change.
+	 * @return the generation
+	 */
+	long getGeneration();
+
+	/**
+	 * Returns the epoch of the repository. The epoch is chosen at random when the
+	 * repository is created. A generation only identifies the repository's contents
+	 * within an epoch as generations are reused by a repository in another instance of
+	 * the application or following a restart.
+	 * @return the epoch
+	 */
+	long getEpoch();
+
+	/**
+	 * Returns the time at which the repository was last updated, whether or not that
+	 * update changed its contents.
+	 * @return the time of the last update or {@code null} if the repository has never
+	 * been updated
+	 */
+	Instant getLastUpdated();
+
+	/**
+	 * Returns whether the repository's contents are stale as they have been
+	 * {@link #restore restored} and have not yet been replaced in full. Updates to
+	 * individual projects do not make the contents fresh.
+	 * @return {@code true} if the contents are stale, otherwise {@code false}
+	 */
+	boolean isStale();
+
 	/**
 	 * Returns all of the releases known to the repository of the given {@code type}.
 	 * @param type the release type. May be {@code null} to return all known releases.
@@ -30,6 +30,8 @@ public final class ReleaseSchedule {
 
 	private final List<Release> releases;
 
+	private final boolean known;
+
 	/**
 	 * Creates a new {@code ReleaseSchedule} for the given {@code project} with the given
 	 * {@code releases}.
@@ -37,8 +39,24 @@ public final class ReleaseSchedule {
 	 * @param releases the releases
 	 */
 	public ReleaseSchedule(String project, List<Release> releases) {
+		this(project, releases, true);
+	}
+
+	private ReleaseSchedule(String project, List<Release> releases, boolean known) {
 		this.project = project;
 		this.releases = new ArrayList<>(releases);
+		this.known = known;
+	}
+
+	/**
+	 * Creates a new {@code ReleaseSchedule} for the given {@code project} whose releases
+	 * are not currently known, for example because they could not be retrieved. The
+	 * project's previously known releases should be left unchanged.
+	 * @param project the project
+	 * @return the schedule
+	 */
+	public static ReleaseSchedule unknown(String project) {
+		return new ReleaseSchedule(project, List.of(), false);
 	}
 
 	/**
@@ -57,4 +75,12 @@ public final class ReleaseSchedule {
 		return this.releases;
 	}
 
+	/**
+	 * Returns whether the project's releases are known.
+	 * @return {@code true} if the releases are known, otherwise {@code false}
+	 */
+	public boolean isKnown() {
+		return this.known;
+	}
+
 }
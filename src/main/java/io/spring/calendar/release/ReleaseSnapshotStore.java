@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores a snapshot of a {@link ReleaseRepository ReleaseRepository's} contents in a
+ * compact binary file so that they can be {@link ReleaseRepository#restore restored}
+ * as soon as the application starts rather than once the first update has completed.
+ * The file is memory-mapped when it is loaded. It holds a header, a table of project
+ * names, and each release with its project as an index into that table. The header
+ * records when the releases were last updated and their generation so that the
+ * repository's generation continues to increase following a restart.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseSnapshotStore {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaseSnapshotStore.class);
+
+	private static final int MAGIC = 0x52454C53;
+
+	private static final byte VERSION = 2;
+
+	private static final Status[] STATUSES = Status.values();
+
+	private static final Type[] TYPES = Type.values();
+
+	private final ReleaseRepository repository;
+
+	private final Path file;
+
+	/**
+	 * Creates a new {@code ReleaseSnapshotStore}.
+	 * @param repository the repository whose contents are stored
+	 * @param file the snapshot file or {@code null} if snapshots should not be stored
+	 */
+	ReleaseSnapshotStore(ReleaseRepository repository, Path file) {
+		this.repository = repository;
+		this.file = file;
+	}
+
+	/**
+	 * Loads the snapshot from its file and restores its releases into the repository. If
+	 * the file does not exist or cannot be read, the repository is left unchanged.
+	 */
+	void load() {
+		if (this.file == null || !Files.isRegularFile(this.file)) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+				log.warn("Ignoring release snapshot {} as it is not a release snapshot", this.file);
+				return;
+			}
+			byte version = buffer.get();
+			if (version != VERSION) {
+				log.info("Ignoring release snapshot {} with unsupported version {}", this.file, version);
+				return;
+			}
+			Instant lastUpdated = Instant.ofEpochMilli(buffer.getLong());
+			long generation = buffer.getLong();
+			List<Release> releases = readReleases(buffer);
+			this.repository.restore(releases, lastUpdated, generation);
+			log.info("Restored {} release(s) at generation {} last updated at {} from {}", releases.size(), generation,
+					lastUpdated, this.file);
+		}
+		catch (IOException | BufferUnderflowException | IndexOutOfBoundsException ex) {
+			log.warn("Failed to load release snapshot from {}", this.file, ex);
+		}
+	}
+
+	private List<Release> readReleases(ByteBuffer buffer) throws IOException {
+		String[] projects = new String[readCount(buffer)];
+		for (int i = 0; i < projects.length; i++) {
+			projects[i] = readString(buffer);
+		}
+		int count = readCount(buffer);
+		List<Release> releases = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String project = projects[buffer.getInt()];
+			String name = readString(buffer);
+			String date = readString(buffer);
+			Status status = STATUSES[buffer.get()];
+			Type type = TYPES[buffer.get()];
+			String url = readString(buffer);
+			releases.add(new Release(project, name, date, status, (url != null) ? toUrl(url) : null, type));
+		}
+		return releases;
+	}
+
+	private int readCount(ByteBuffer buffer) {
+		int count = buffer.getInt();
+		if (count < 0 || count > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		return count;
+	}
+
+	private String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private URL toUrl(String url) throws IOException {
+		try {
+			return URI.create(url).toURL();
+		}
+		catch (IllegalArgumentException ex) {
+			throw new IOException("Invalid URL '" + url + "'", ex);
+		}
+	}
+
+	/**
+	 * Saves a snapshot of the repository's contents to the file. The snapshot is written
+	 * to a temporary file that is then moved into place so that a partially written
+	 * snapshot is never read.
+	 */
+	void save() {
+		if (this.file == null) {
+			return;
+		}
+		Instant lastUpdated = this.repository.getLastUpdated();
+		long generation;
+		List<Release> releases;
+		do {
+			generation = this.repository.getGeneration();
+			releases = this.repository.findAllOfType(null);
+		}
+		while (generation != this.repository.getGeneration());
+		try {
+			Path parent = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+			try {
+				try (DataOutputStream output = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					write(output, (lastUpdated != null) ? lastUpdated : Instant.now(), generation, releases);
+				}
+				Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Failed to save release snapshot to {}", this.file, ex);
+		}
+	}
+
+	private void write(DataOutputStream output, Instant lastUpdated, long generation, List<Release> releases)
+			throws IOException {
+		output.writeInt(MAGIC);
+		output.writeByte(VERSION);
+		output.writeLong(lastUpdated.toEpochMilli());
+		output.writeLong(generation);
+		Map<String, Integer> projects = new LinkedHashMap<>();
+		for (Release release : releases) {
+			projects.putIfAbsent(release.getProject(), projects.size());
+		}
+		output.writeInt(projects.size());
+		for (String project : projects.keySet()) {
+			writeString(output, project);
+		}
+		output.writeInt(releases.size());
+		for (Release release : releases) {
+			output.writeInt(projects.get(release.getProject()));
+			writeString(output, release.getName());
+			writeString(output, release.getDate());
+			output.writeByte(release.getStatus().ordinal());
+			output.writeByte(release.getType().ordinal());
+			writeString(output, (release.getUrl() != null) ? release.getUrl().toString() : null);
+		}
+	}
+
+	private void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+}
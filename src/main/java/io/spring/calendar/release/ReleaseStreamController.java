@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import io.spring.calendar.release.Release.Type;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller for exposing the {@link ReleaseChangeStream stream of changes} to the
+ * {@link Release Releases} as server-sent events. A client that reconnects sends the id
+ * of the last event that it received in the {@code Last-Event-ID} header and the stream
+ * resumes from that event.
+ *
+ * @author agent (agent@local)
+ */
+@RestController
+@CrossOrigin(origins = { "https://spring.io", "https://enterprise.spring.io" })
+class ReleaseStreamController {
+
+	private final ReleaseChangeStream releaseChangeStream;
+
+	ReleaseStreamController(ReleaseChangeStream releaseChangeStream) {
+		this.releaseChangeStream = releaseChangeStream;
+	}
+
+	@GetMapping(path = "/releases/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	SseEmitter stream(@RequestParam(required = false) Type type,
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		SseEmitter emitter = new SseEmitter(0L);
+		this.releaseChangeStream.subscribe(emitter, type, lastEventId);
+		return emitter;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +29,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * {@code ReleaseUpdater} updates the known {@link Release Releases}.
+ * {@code ReleaseUpdater} updates the known {@link Release Releases} every
+ * {@code calendar.releases.update-interval} (five minutes by default).
  *
  * @author Andy Wilkinson
  */
@@ -40,40 +43,78 @@ class ReleaseUpdater {
 
 	private final ReleaseRepository releaseRepository;
 
-	ReleaseUpdater(List<ReleaseScheduleSource> releaseScheduleSources, ReleaseRepository releaseRepository) {
+	private final ReleaseSnapshotStore snapshotStore;
+
+	private final MeterRegistry meterRegistry;
+
+	ReleaseUpdater(List<ReleaseScheduleSource> releaseScheduleSources, ReleaseRepository releaseRepository,
+			ReleaseSnapshotStore snapshotStore, MeterRegistry meterRegistry) {
 		this.releaseScheduleSources = releaseScheduleSources;
 		this.releaseRepository = releaseRepository;
+		this.snapshotStore = snapshotStore;
+		this.meterRegistry = meterRegistry;
 	}
 
-	@Scheduled(fixedRate = 5 * 60 * 1000)
+	@Scheduled(fixedRateString = "${calendar.releases.update-interval:5m}")
 	void updateReleases() {
 		log.info("Updating releases");
-		List<Release> releases = getReleaseSchedulesByProject().values()
-			.stream()
-			.flatMap((releaseSchedule) -> releaseSchedule.getReleases().stream())
-			.toList();
-		updateReleases(releases);
-		log.info("Releases updated");
+		Map<String, ReleaseSchedule> schedulesByProject = getReleaseSchedulesByProject();
+		Map<String, List<Release>> releasesByProject = new HashMap<>();
+		schedulesByProject.forEach((project, releaseSchedule) -> {
+			if (releaseSchedule.isKnown()) {
+				releasesByProject.put(project, releaseSchedule.getReleases());
+			}
+		});
+		ReleaseChanges changes;
+		if (releasesByProject.size() == schedulesByProject.size()) {
+			changes = this.releaseRepository.replace(releasesByProject);
+		}
+		else {
+			log.info("Releases of {} project(s) are not known. Updating the other projects only",
+					schedulesByProject.size() - releasesByProject.size());
+			changes = this.releaseRepository.update(releasesByProject);
+		}
+		log.info("Releases updated. {} project(s) changed, now at generation {}", changes.getChangedProjects().size(),
+				changes.getGeneration());
+		this.snapshotStore.save();
 	}
 
 	private Map<String, ReleaseSchedule> getReleaseSchedulesByProject() {
 		Map<String, ReleaseSchedule> schedulesByProject = new HashMap<>();
 		this.releaseScheduleSources.stream()
-			.map(ReleaseScheduleSource::get)
+			.map(this::getReleaseSchedules)
 			.flatMap(List::stream)
 			.forEach((releaseSchedule) -> collect(schedulesByProject, releaseSchedule));
 		return schedulesByProject;
 	}
 
-	private void collect(Map<String, ReleaseSchedule> schedulesByProject, ReleaseSchedule schedule) {
-		ReleaseSchedule existing = schedulesByProject.putIfAbsent(schedule.getProject(), schedule);
-		if (existing != null) {
-			existing.getReleases().addAll(schedule.getReleases());
+	private List<ReleaseSchedule> getReleaseSchedules(ReleaseScheduleSource source) {
+		Timer.Sample sample = Timer.start(this.meterRegistry);
+		String outcome = "FAILURE";
+		try {
+			List<ReleaseSchedule> releaseSchedules = source.get();
+			outcome = "SUCCESS";
+			return releaseSchedules;
+		}
+		finally {
+			sample.stop(Timer.builder("releases.update")
+				.description("Time taken to get the release schedules from a source")
+				.tag("source", source.getClass().getSimpleName())
+				.tag("outcome", outcome)
+				.register(this.meterRegistry));
 		}
 	}
 
-	private void updateReleases(List<Release> releases) {
-		this.releaseRepository.set(releases);
+	private void collect(Map<String, ReleaseSchedule> schedulesByProject, ReleaseSchedule schedule) {
+		ReleaseSchedule existing = schedulesByProject.putIfAbsent(schedule.getProject(), schedule);
+		if (existing != null && existing.isKnown()) {
+			if (schedule.isKnown()) {
+				existing.getReleases().addAll(schedule.getReleases());
+			}
+			else {
+				schedulesByProject.put(schedule.getProject(), schedule);
+			}
+		}
 	}
 
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when the contents of a {@link ReleaseRepository} have changed.
+ *
+ * @author agent (agent@local)
+ */
+class ReleasesChangedEvent extends ApplicationEvent {
+
+	private final ReleaseChanges changes;
+
+	/**
+	 * Creates a new {@code ReleasesChangedEvent}.
+	 * @param repository the repository whose contents have changed
+	 * @param changes the changes that were made
+	 */
+	ReleasesChangedEvent(ReleaseRepository repository, ReleaseChanges changes) {
+		super(repository);
+		this.changes = changes;
+	}
+
+	/**
+	 * Returns the changes that were made.
+	 * @return the changes
+	 */
+	ReleaseChanges getChanges() {
+		return this.changes;
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.calendar.github.ConditionalRequestCache.CachedResponse;
+import io.spring.calendar.github.Milestone.State;
+import io.spring.calendar.github.Repository.Visibility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConditionalRequestCache}.
+ *
+ * @author agent (agent@local)
+ */
+class ConditionalRequestCacheTests {
+
+	private static final String MILESTONES_URL = "https://api.github.com/repos/spring-projects/spring-boot/milestones"
+			+ "?state=all&per_page=100";
+
+	private static final String REPOSITORIES_URL = "https://api.github.com/orgs/spring-projects/repos?per_page=100";
+
+	private static final String REPOSITORIES_PAGE_2_URL = "https://api.github.com/orgs/spring-projects/repos?page=2";
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@TempDir
+	Path temp;
+
+	@Test
+	void whenNothingHasBeenCachedThenGetReturnsNull() {
+		assertThat(new ConditionalRequestCache().get(MILESTONES_URL, Milestone[].class)).isNull();
+	}
+
+	@Test
+	void whenResponseHasBeenCachedThenGetReturnsIt() {
+		ConditionalRequestCache cache = new ConditionalRequestCache();
+		Milestone milestone = new Milestone("3.5.0", ZonedDateTime.parse("2025-05-22T07:00:00Z"), State.OPEN, 1);
+		cache.put(MILESTONES_URL, new CachedResponse<>("\"abc\"", "https://example.com/next",
+				"https://example.com/last", List.of(milestone)));
+		CachedResponse<Milestone> cached = cache.get(MILESTONES_URL, Milestone[].class);
+		assertThat(cached.etag()).isEqualTo("\"abc\"");
+		assertThat(cached.next()).isEqualTo("https://example.com/next");
+		assertThat(cached.last()).isEqualTo("https://example.com/last");
+		assertThat(cached.content()).containsExactly(milestone);
+	}
+
+	@Test
+	void whenCacheIsSavedThenItCanBeLoaded() {
+		Path file = this.temp.resolve("cache.json");
+		ConditionalRequestCache cache = new ConditionalRequestCache(this.objectMapper, file);
+		cache.put(MILESTONES_URL, new CachedResponse<>("\"milestones\"", null, null,
+				List.of(new Milestone("3.5.0", ZonedDateTime.parse("2025-05-22T07:00:00Z"), State.CLOSED, 52))));
+		cache.put(REPOSITORIES_URL,
+				new CachedResponse<>("\"repositories\"", "https://api.github.com/orgs/spring-projects/repos?page=2",
+						"https://api.github.com/orgs/spring-projects/repos?page=5",
+						List.of(new Repository("spring-boot", "spring-projects/spring-boot",
+								"https://api.github.com/repos/spring-projects/spring-boot/milestones{/number}",
+								"https://github.com/spring-projects/spring-boot", Visibility.PUBLIC, false, true,
+								Instant.parse("2026-05-31T10:00:00Z"), Instant.parse("2026-05-31T09:00:00Z")))));
+		cache.save();
+		assertThat(file).exists();
+		ConditionalRequestCache loaded = new ConditionalRequestCache(this.objectMapper, file);
+		loaded.load();
+		assertThat(loaded.size()).isEqualTo(2);
+		CachedResponse<Milestone> milestones = loaded.get(MILESTONES_URL, Milestone[].class);
+		assertThat(milestones.etag()).isEqualTo("\"milestones\"");
+		assertThat(milestones.next()).isNull();
+		assertThat(milestones.content()).singleElement().satisfies((milestone) -> {
+			assertThat(milestone.getTitle()).isEqualTo("3.5.0");
+			assertThat(milestone.getDueOn()).isEqualTo(ZonedDateTime.parse("2025-05-22T07:00:00Z"));
+			assertThat(milestone.getState()).isEqualTo(State.CLOSED);
+			assertThat(milestone.getNumber()).isEqualTo(52);
+		});
+		CachedResponse<Repository> repositories = loaded.get(REPOSITORIES_URL, Repository[].class);
+		assertThat(repositories.etag()).isEqualTo("\"repositories\"");
+		assertThat(repositories.next()).isEqualTo("https://api.github.com/orgs/spring-projects/repos?page=2");
+		assertThat(repositories.last()).isEqualTo("https://api.github.com/orgs/spring-projects/repos?page=5");
+		assertThat(repositories.content()).singleElement().satisfies((repository) -> {
+			assertThat(repository.getFullName()).isEqualTo("spring-projects/spring-boot");
+			assertThat(repository.getMilestonesUrl())
+				.hasToString("https://api.github.com/repos/spring-projects/spring-boot/milestones");
+			assertThat(repository.getVisibility()).isEqualTo(Visibility.PUBLIC);
+			assertThat(repository.hasIssues()).isTrue();
+			assertThat(repository.getUpdatedAt()).isEqualTo(Instant.parse("2026-05-31T10:00:00Z"));
+			assertThat(repository.getPushedAt()).isEqualTo(Instant.parse("2026-05-31T09:00:00Z"));
+		});
+	}
+
+	@Test
+	void whenFileDoesNotExistThenLoadLeavesCacheEmpty() {
+		ConditionalRequestCache cache = new ConditionalRequestCache(this.objectMapper, this.temp.resolve("none.json"));
+		cache.load();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void whenFileIsCorruptThenLoadLeavesCacheEmpty() throws IOException {
+		Path file = Files.writeString(this.temp.resolve("cache.json"), "{\"version\":");
+		ConditionalRequestCache cache = new ConditionalRequestCache(this.objectMapper, file);
+		cache.load();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void whenCacheIsPrunedThenEntriesThatHaveNotBeenUsedSinceTheLastPruneAreRemoved() {
+		Path file = this.temp.resolve("cache.json");
+		ConditionalRequestCache cache = new ConditionalRequestCache(this.objectMapper, file);
+		cache.put(MILESTONES_URL, new CachedResponse<>("\"milestones\"", null, null, List.of()));
+		cache.put(REPOSITORIES_URL, new CachedResponse<>("\"repositories\"", null, null, List.of()));
+		cache.save();
+		ConditionalRequestCache loaded = new ConditionalRequestCache(this.objectMapper, file);
+		loaded.load();
+		loaded.get(REPOSITORIES_URL, Repository[].class);
+		assertThat(loaded.prune((url) -> false)).isOne();
+		assertThat(loaded.get(MILESTONES_URL, Milestone[].class)).isNull();
+		assertThat(loaded.get(REPOSITORIES_URL, Repository[].class)).isNotNull();
+	}
+
+	@Test
+	void whenCacheIsPrunedThenRetainedEntriesAndThePagesThatFollowThemAreKept() {
+		ConditionalRequestCache cache = new ConditionalRequestCache();
+		cache.put(MILESTONES_URL, new CachedResponse<>("\"milestones\"", null, null, List.of()));
+		cache.put(REPOSITORIES_URL, new CachedResponse<>("\"repositories\"", REPOSITORIES_PAGE_2_URL,
+				REPOSITORIES_PAGE_2_URL, List.of()));
+		cache.put(REPOSITORIES_PAGE_2_URL, new CachedResponse<>("\"repositories-2\"", null, null, List.of()));
+		cache.prune((url) -> false);
+		assertThat(cache.prune(REPOSITORIES_URL::equals)).isOne();
+		assertThat(cache.get(MILESTONES_URL, Milestone[].class)).isNull();
+		assertThat(cache.get(REPOSITORIES_URL, Repository[].class)).isNotNull();
+		assertThat(cache.get(REPOSITORIES_PAGE_2_URL, Repository[].class)).isNotNull();
+	}
+
+	@Test
+	void whenCacheIsBoundToARegistryThenHitsMissesAndSizeAreMeasured() {
+		ConditionalRequestCache cache = new ConditionalRequestCache();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+		cache.put(MILESTONES_URL, new CachedResponse<>("\"milestones\"", null, null, List.of()));
+		cache.recordHit();
+		cache.recordHit();
+		cache.recordMiss();
+		assertThat(registry.get("github.cache.requests").tag("result", "hit").functionCounter().count())
+			.isEqualTo(2);
+		assertThat(registry.get("github.cache.requests").tag("result", "miss").functionCounter().count())
+			.isEqualTo(1);
+		assertThat(registry.get("github.cache.size").gauge().value()).isEqualTo(1);
+	}
+
+}
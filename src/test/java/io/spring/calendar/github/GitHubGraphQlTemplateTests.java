@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.calendar.github.GitHubGraphQlTemplateTests.TemplateConfiguration;
+import io.spring.calendar.github.Milestone.State;
+import io.spring.calendar.github.Repository.Visibility;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for {@link GitHubGraphQlTemplate}.
+ *
+ * @author agent (agent@local)
+ */
+@RestClientTest
+@ContextConfiguration(classes = TemplateConfiguration.class)
+class GitHubGraphQlTemplateTests {
+
+	private static final String URL = "https://api.github.com/graphql";
+
+	@Autowired
+	private GitHubGraphQlTemplate gitHub;
+
+	@Autowired
+	private MockRestServiceServer server;
+
+	@Test
+	void getRepositoriesQueriesEachPageOfTheOrganizationsRepositories() {
+		this.server.expect(requestTo(URL))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer bearer-token"))
+			.andExpect(jsonPath("$.variables.organization").value("spring-projects"))
+			.andExpect(jsonPath("$.variables.cursor").doesNotExist())
+			.andRespond(recorded("repositories-1"));
+		this.server.expect(requestTo(URL))
+			.andExpect(jsonPath("$.variables.organization").value("spring-projects"))
+			.andExpect(jsonPath("$.variables.cursor").value("Y3Vyc29yOnYyOpHOAXh4Wg=="))
+			.andRespond(recorded("repositories-2"));
+		List<Repository> repositories = collect(this.gitHub.getRepositories("spring-projects"));
+		this.server.verify();
+		assertThat(repositories).hasSize(3);
+		assertThat(repositories.get(0)).satisfies((repository) -> {
+			assertThat(repository.getName()).isEqualTo("spring-boot");
+			assertThat(repository.getFullName()).isEqualTo("spring-projects/spring-boot");
+			assertThat(repository.getHtmlUrl()).hasToString("https://github.com/spring-projects/spring-boot");
+			assertThat(repository.getMilestonesUrl())
+				.hasToString("https://api.github.com/repos/spring-projects/spring-boot/milestones");
+			assertThat(repository.getVisibility()).isEqualTo(Visibility.PUBLIC);
+			assertThat(repository.isArchived()).isFalse();
+			assertThat(repository.hasIssues()).isTrue();
+			assertThat(repository.getUpdatedAt()).isEqualTo(Instant.parse("2025-06-02T09:10:00Z"));
+			assertThat(repository.getPushedAt()).isEqualTo(Instant.parse("2025-06-02T08:40:12Z"));
+		});
+		assertThat(repositories.get(2).getVisibility()).isEqualTo(Visibility.INTERNAL);
+	}
+
+	@Test
+	void getMilestonesUsesMilestonesThatWereRetrievedWithTheRepositories() {
+		this.server.expect(requestTo(URL)).andRespond(recorded("repositories-1"));
+		Repository springFramework = this.gitHub.getRepositories("spring-projects").getContent().get(1);
+		List<Milestone> milestones = collect(this.gitHub.getMilestones(springFramework));
+		this.server.verify();
+		assertThat(milestones).singleElement().satisfies((milestone) -> {
+			assertThat(milestone.getTitle()).isEqualTo("6.2.8");
+			assertThat(milestone.getDueOn()).isNull();
+			assertThat(milestone.getState()).isEqualTo(State.OPEN);
+			assertThat(milestone.getNumber()).isEqualTo(412);
+		});
+	}
+
+	@Test
+	void getMilestonesQueriesForRemainingPagesOfMilestones() {
+		this.server.expect(requestTo(URL)).andRespond(recorded("repositories-1"));
+		this.server.expect(requestTo(URL))
+			.andExpect(jsonPath("$.variables.owner").value("spring-projects"))
+			.andExpect(jsonPath("$.variables.name").value("spring-boot"))
+			.andExpect(jsonPath("$.variables.cursor").value("Y3Vyc29yOnYyOpHOAHxq8w=="))
+			.andRespond(recorded("milestones"));
+		Repository springBoot = this.gitHub.getRepositories("spring-projects").getContent().get(0);
+		List<Milestone> milestones = collect(this.gitHub.getMilestones(springBoot));
+		this.server.verify();
+		assertThat(milestones).extracting(Milestone::getTitle).containsExactly("3.4.6", "3.5.0", "4.0.0-M1");
+		assertThat(milestones.get(0).getState()).isEqualTo(State.CLOSED);
+		assertThat(milestones.get(2).getDueOn()).isEqualTo(ZonedDateTime.parse("2025-07-24T07:00:00Z"));
+	}
+
+	@Test
+	void getMilestonesForRepositoryThatWasNotRetrievedQueriesForItsMilestones() {
+		this.server.expect(requestTo(URL))
+			.andExpect(jsonPath("$.variables.owner").value("spring-projects"))
+			.andExpect(jsonPath("$.variables.name").value("spring-security"))
+			.andExpect(jsonPath("$.variables.cursor").doesNotExist())
+			.andRespond(recorded("milestones"));
+		Repository springSecurity = new Repository("spring-security", "spring-projects/spring-security",
+				"https://api.github.com/repos/spring-projects/spring-security/milestones",
+				"https://github.com/spring-projects/spring-security", Visibility.PUBLIC);
+		List<Milestone> milestones = collect(this.gitHub.getMilestones(springSecurity));
+		this.server.verify();
+		assertThat(milestones).extracting(Milestone::getTitle).containsExactly("4.0.0-M1");
+	}
+
+	@Test
+	void whenQueryReturnsErrorsThenGetRepositoriesThrows() {
+		this.server.expect(requestTo(URL)).andRespond(recorded("errors"));
+		assertThatIllegalStateException().isThrownBy(() -> this.gitHub.getRepositories("no-such-organization"))
+			.withMessageContaining("Could not resolve to an Organization");
+	}
+
+	private <T> List<T> collect(Page<T> page) {
+		List<T> content = new ArrayList<>();
+		while (page != null) {
+			content.addAll(page.getContent());
+			page = page.next();
+		}
+		return content;
+	}
+
+	private ResponseCreator recorded(String name) {
+		return withSuccess(new ClassPathResource("GitHubGraphQlTemplateTests-" + name + ".json", getClass()),
+				MediaType.APPLICATION_JSON);
+	}
+
+	/**
+	 * Test configuration for {@link GitHubGraphQlTemplate}.
+	 */
+	@Configuration
+	static class TemplateConfiguration {
+
+		@Bean
+		GitHubGraphQlTemplate gitHubGraphQlTemplate(RestTemplateBuilder restTemplateBuilder) {
+			return new GitHubGraphQlTemplate("bearer-token", URI.create(URL), restTemplateBuilder);
+		}
+
+	}
+
+}
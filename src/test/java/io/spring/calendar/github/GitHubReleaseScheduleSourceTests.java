@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,37 @@
 
 package io.spring.calendar.github;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.calendar.github.ConditionalRequestCache.CachedResponse;
 import io.spring.calendar.github.GitHubProperties.Organization;
 import io.spring.calendar.github.Milestone.State;
 import io.spring.calendar.github.Repository.Visibility;
+import io.spring.calendar.release.Release.Status;
 import io.spring.calendar.release.ReleaseSchedule;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.http.HttpHeaders;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -48,16 +66,16 @@ class GitHubReleaseScheduleSourceTests {
 	void whenThereAreNoRepositoriesThenReleaseSchedulesIsEmpty() {
 		List<ReleaseSchedule> releases = this.source.get();
 		assertThat(releases).isEmpty();
-		verify(this.gitHub).getRepositories("spring-projects", null);
-		verify(this.gitHub).getRepositories("spring-cloud", null);
+		verify(this.gitHub).getRepositories("spring-projects");
+		verify(this.gitHub).getRepositories("spring-cloud");
 	}
 
 	@Test
 	void whenThereAreNoMilestonesThenReleaseSchedulesHaveNoReleases() {
 		Repository springBoot = repository("spring-projects", "spring-boot");
-		given(this.gitHub.getRepositories("spring-projects", null)).willReturn(page(springBoot));
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
 		Repository springCloudCommons = repository("spring-cloud", "spring-cloud-commons");
-		given(this.gitHub.getRepositories("spring-cloud", null)).willReturn(page(springCloudCommons));
+		given(this.gitHub.getRepositories("spring-cloud")).willReturn(page(springCloudCommons));
 		List<ReleaseSchedule> releaseSchedules = this.source.get();
 		assertThat(releaseSchedules).hasSize(2);
 		assertThat(releaseSchedules).first().satisfies((schedule) -> {
@@ -73,12 +91,12 @@ class GitHubReleaseScheduleSourceTests {
 	@Test
 	void whenMilestonesAreScheduledThenThereIsOneReleasePerMilestone() {
 		Repository springBoot = repository("spring-projects", "spring-boot");
-		given(this.gitHub.getRepositories("spring-projects", null)).willReturn(page(springBoot));
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
 		Repository springCloudCommons = repository("spring-cloud", "spring-cloud-commons");
-		given(this.gitHub.getRepositories("spring-cloud", null)).willReturn(page(springCloudCommons));
-		given(this.gitHub.getMilestones(springBoot, null))
+		given(this.gitHub.getRepositories("spring-cloud")).willReturn(page(springCloudCommons));
+		given(this.gitHub.getMilestones(springBoot))
 			.willReturn(page(new Milestone("3.3.1", ZonedDateTime.now(), State.OPEN, 1)));
-		given(this.gitHub.getMilestones(springCloudCommons, null))
+		given(this.gitHub.getMilestones(springCloudCommons))
 			.willReturn(page(new Milestone("1.2.3", ZonedDateTime.now(), State.OPEN, 1)));
 		List<ReleaseSchedule> releaseSchedules = this.source.get();
 		assertThat(releaseSchedules).hasSize(2);
@@ -96,8 +114,8 @@ class GitHubReleaseScheduleSourceTests {
 	void whenARepositoryIsInternalItIsIgnoredIfItsNameDoesNotEndWithDashCommercial() {
 		Repository hidden = repository("spring-projects", "hidden-repository", Visibility.INTERNAL);
 		Repository springBootCommercial = repository("spring-projects", "spring-boot-commercial", Visibility.INTERNAL);
-		given(this.gitHub.getRepositories("spring-projects", null)).willReturn(page(hidden, springBootCommercial));
-		given(this.gitHub.getMilestones(springBootCommercial, null))
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(hidden, springBootCommercial));
+		given(this.gitHub.getMilestones(springBootCommercial))
 			.willReturn(page(new Milestone("2.7.21", ZonedDateTime.now(), State.OPEN, 1)));
 		List<ReleaseSchedule> releaseSchedules = this.source.get();
 		assertThat(releaseSchedules).singleElement().satisfies((schedule) -> {
@@ -110,8 +128,8 @@ class GitHubReleaseScheduleSourceTests {
 	void whenARepositoryIsPrivateItIsIgnoredIfItsNameDoesNotEndWithDashCommercial() {
 		Repository hidden = repository("spring-projects", "hidden-repository", Visibility.PRIVATE);
 		Repository springBootCommercial = repository("spring-projects", "spring-boot-commercial", Visibility.PRIVATE);
-		given(this.gitHub.getRepositories("spring-projects", null)).willReturn(page(hidden, springBootCommercial));
-		given(this.gitHub.getMilestones(springBootCommercial, null))
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(hidden, springBootCommercial));
+		given(this.gitHub.getMilestones(springBootCommercial))
 			.willReturn(page(new Milestone("2.7.21", ZonedDateTime.now(), State.OPEN, 1)));
 		List<ReleaseSchedule> releaseSchedules = this.source.get();
 		assertThat(releaseSchedules).singleElement().satisfies((schedule) -> {
@@ -120,10 +138,296 @@ class GitHubReleaseScheduleSourceTests {
 		});
 	}
 
+	@Test
+	void whenMilestonesAreFetchedConcurrentlyThenReleaseSchedulesAreInRepositoryOrder() {
+		List<Repository> repositories = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			repositories.add(repository("spring-projects", "project-" + i));
+		}
+		given(this.gitHub.getRepositories("spring-projects"))
+			.willReturn(page(repositories.toArray(new Repository[0])));
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maximumActive = new AtomicInteger();
+		CountDownLatch bothActive = new CountDownLatch(2);
+		for (Repository repository : repositories) {
+			given(this.gitHub.getMilestones(repository)).willAnswer((invocation) -> {
+				maximumActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				bothActive.countDown();
+				bothActive.await(5, TimeUnit.SECONDS);
+				active.decrementAndGet();
+				return page(new Milestone("1.0.0", ZonedDateTime.now(), State.OPEN, 1));
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			GitHubReleaseScheduleSource concurrentSource = new GitHubReleaseScheduleSource(this.gitHub,
+					List.of(new Organization("spring-projects", Collections.emptyList())), executor,
+					new ConditionalRequestCache(), new RateLimitBudget(), new RefreshScheduler(Clock.systemUTC()));
+			List<ReleaseSchedule> releaseSchedules = concurrentSource.get();
+			assertThat(releaseSchedules).extracting(ReleaseSchedule::getProject)
+				.containsExactly("Project 0", "Project 1", "Project 2", "Project 3", "Project 4", "Project 5",
+						"Project 6", "Project 7");
+			assertThat(maximumActive).hasValue(2);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void whenFetchingMilestonesFailsThenFailureIsPropagated() {
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		given(this.gitHub.getMilestones(springBoot)).willThrow(new IllegalStateException("Failed"));
+		assertThatIllegalStateException().isThrownBy(this.source::get).withMessage("Failed");
+	}
+
+	@Test
+	void timeTakenToUpdateEachOrganizationIsRecordedWithItsOutcome() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GitHubReleaseScheduleSource instrumentedSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList()),
+						new Organization("spring-cloud", Collections.emptyList())),
+				Runnable::run, new ConditionalRequestCache(), new RateLimitBudget(),
+				new RefreshScheduler(Clock.systemUTC()), meterRegistry);
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		Repository springCloudCommons = repository("spring-cloud", "spring-cloud-commons");
+		given(this.gitHub.getRepositories("spring-cloud")).willReturn(page(springCloudCommons));
+		given(this.gitHub.getMilestones(springCloudCommons)).willThrow(new IllegalStateException("Failed"));
+		assertThatIllegalStateException().isThrownBy(instrumentedSource::get);
+		assertThat(meterRegistry.get("github.organization.update")
+			.tags("organization", "spring-projects", "outcome", "SUCCESS")
+			.timer()
+			.count()).isOne();
+		assertThat(meterRegistry.get("github.organization.update")
+			.tags("organization", "spring-cloud", "outcome", "FAILURE")
+			.timer()
+			.count()).isOne();
+	}
+
+	@Test
+	void whenBudgetIsLimitedThenRepositoriesWithMilestonesDueSoonAreFetchedAndOthersAreDeferred() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RateLimitBudget budget = new RateLimitBudget(clock, Duration.ofMinutes(5), 0);
+		GitHubReleaseScheduleSource budgetedSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run,
+				new ConditionalRequestCache(), budget, new RefreshScheduler(clock));
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		Repository springBatch = repository("spring-projects", "spring-batch");
+		Repository springShell = repository("spring-projects", "spring-shell");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springShell, springBatch, springBoot));
+		ZonedDateTime now = ZonedDateTime.now(clock);
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", now.plusDays(2), State.OPEN, 1)));
+		given(this.gitHub.getMilestones(springBatch))
+			.willReturn(page(new Milestone("5.2.3", now.plusDays(60), State.OPEN, 1)));
+		given(this.gitHub.getMilestones(springShell))
+			.willReturn(page(new Milestone("3.4.0", now.minusDays(30), State.CLOSED, 1)));
+		assertThat(budgetedSource.get()).hasSize(3);
+		budget.update(rateLimitHeaders(1, clock.instant().plus(Duration.ofMinutes(4))));
+		List<ReleaseSchedule> releaseSchedules = budgetedSource.get();
+		assertThat(releaseSchedules).extracting(ReleaseSchedule::getProject)
+			.containsExactly("Spring Shell", "Spring Batch", "Spring Boot");
+		assertThat(releaseSchedules).allSatisfy((schedule) -> assertThat(schedule.getReleases()).hasSize(1));
+		verify(this.gitHub, times(2)).getMilestones(springBoot);
+		verify(this.gitHub).getMilestones(springBatch);
+		verify(this.gitHub).getMilestones(springShell);
+	}
+
+	@Test
+	void whenBudgetIsLimitedThenRepositoriesThatHaveNeverBeenFetchedAreFetchedFirst() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RateLimitBudget budget = new RateLimitBudget(clock, Duration.ofMinutes(5), 0);
+		GitHubReleaseScheduleSource budgetedSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run,
+				new ConditionalRequestCache(), budget, new RefreshScheduler(clock));
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		Repository springBatch = repository("spring-projects", "spring-batch");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		given(this.gitHub.getMilestones(springBatch))
+			.willReturn(page(new Milestone("5.2.3", ZonedDateTime.now(clock).plusDays(60), State.OPEN, 1)));
+		budgetedSource.get();
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot, springBatch));
+		budget.update(rateLimitHeaders(1, clock.instant().plus(Duration.ofMinutes(4))));
+		assertThat(budgetedSource.get()).extracting(ReleaseSchedule::getProject)
+			.containsExactly("Spring Boot", "Spring Batch");
+		verify(this.gitHub).getMilestones(springBoot);
+		verify(this.gitHub).getMilestones(springBatch);
+	}
+
+	@Test
+	void whenBudgetIsLimitedThenScheduleOfRepositoryThatHasNeverBeenFetchedIsUnknown() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RateLimitBudget budget = new RateLimitBudget(clock, Duration.ofMinutes(5), 0);
+		budget.update(rateLimitHeaders(1, clock.instant().plus(Duration.ofMinutes(4))));
+		GitHubReleaseScheduleSource budgetedSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run,
+				new ConditionalRequestCache(), budget, new RefreshScheduler(clock));
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		Repository springBatch = repository("spring-projects", "spring-batch");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot, springBatch));
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		List<ReleaseSchedule> releaseSchedules = budgetedSource.get();
+		assertThat(releaseSchedules).extracting(ReleaseSchedule::getProject, ReleaseSchedule::isKnown)
+			.containsExactly(tuple("Spring Boot", true), tuple("Spring Batch", false));
+		verify(this.gitHub, times(0)).getMilestones(springBatch);
+	}
+
+	@Test
+	void whenRepositoryIsNotDueForRefreshThenItsPreviousMilestonesAreReused() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RefreshScheduler refreshScheduler = new RefreshScheduler(clock, Duration.ofMinutes(5), Duration.ofHours(6),
+				Duration.ofDays(14), Duration.ofDays(1));
+		GitHubReleaseScheduleSource scheduledSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run,
+				new ConditionalRequestCache(), new RateLimitBudget(), refreshScheduler);
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		scheduledSource.get();
+		List<ReleaseSchedule> releaseSchedules = scheduledSource.get();
+		assertThat(releaseSchedules).singleElement()
+			.satisfies((schedule) -> assertThat(schedule.getReleases()).hasSize(1));
+		verify(this.gitHub).getMilestones(springBoot);
+	}
+
+	@Test
+	void whenRepositoryIsNotFetchedThenItsCachedResponsesAreKeptAndThoseOfUnknownRepositoriesArePruned() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RefreshScheduler refreshScheduler = new RefreshScheduler(clock, Duration.ofMinutes(5), Duration.ofHours(6),
+				Duration.ofDays(14), Duration.ofDays(1));
+		ConditionalRequestCache cache = new ConditionalRequestCache();
+		GitHubReleaseScheduleSource scheduledSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run, cache,
+				new RateLimitBudget(), refreshScheduler);
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		String springBootMilestones = "https://api.github.com/repos/spring-projects/spring-boot/milestones"
+				+ "?state=all&per_page=100";
+		String springBootMilestonesPage2 = "https://api.github.com/repositories/6296790/milestones?page=2";
+		String springLoadedMilestones = "https://api.github.com/repos/spring-projects/spring-loaded/milestones"
+				+ "?state=all&per_page=100";
+		cache.put(springBootMilestones,
+				new CachedResponse<>("\"1\"", springBootMilestonesPage2, springBootMilestonesPage2, List.of()));
+		cache.put(springBootMilestonesPage2, new CachedResponse<>("\"2\"", null, null, List.of()));
+		cache.put(springLoadedMilestones, new CachedResponse<>("\"3\"", null, null, List.of()));
+		scheduledSource.get();
+		scheduledSource.get();
+		verify(this.gitHub).getMilestones(springBoot);
+		assertThat(cache.get(springBootMilestones, Milestone[].class)).isNotNull();
+		assertThat(cache.get(springBootMilestonesPage2, Milestone[].class)).isNotNull();
+		assertThat(cache.get(springLoadedMilestones, Milestone[].class)).isNull();
+	}
+
+	@Test
+	void whenARepositoryIsArchivedItIsIgnored() {
+		Repository springLoaded = new Repository("spring-loaded", "spring-projects/spring-loaded",
+				"https://api.github.com/repos/spring-projects/spring-loaded/milestones{/number}",
+				"https://github.com/spring-projects/spring-loaded", Visibility.PUBLIC, true, true, null, null);
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springLoaded));
+		assertThat(this.source.get()).isEmpty();
+		verify(this.gitHub, times(0)).getMilestones(springLoaded);
+	}
+
+	@Test
+	void whenARepositoryHasIssuesDisabledItIsIgnored() {
+		Repository springDataGemfire = new Repository("spring-data-gemfire", "spring-projects/spring-data-gemfire",
+				"https://api.github.com/repos/spring-projects/spring-data-gemfire/milestones{/number}",
+				"https://github.com/spring-projects/spring-data-gemfire", Visibility.PUBLIC, false, false, null, null);
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springDataGemfire));
+		assertThat(this.source.get()).isEmpty();
+		verify(this.gitHub, times(0)).getMilestones(springDataGemfire);
+	}
+
+	@Test
+	void whenRepositoryMetadataHasChangedThenMilestonesAreFetchedBeforeRepositoryIsDue() {
+		Clock clock = Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneOffset.UTC);
+		RefreshScheduler refreshScheduler = new RefreshScheduler(clock, Duration.ofMinutes(5), Duration.ofHours(6),
+				Duration.ofDays(14), Duration.ofDays(1));
+		GitHubReleaseScheduleSource scheduledSource = new GitHubReleaseScheduleSource(this.gitHub,
+				List.of(new Organization("spring-projects", Collections.emptyList())), Runnable::run,
+				new ConditionalRequestCache(), new RateLimitBudget(), refreshScheduler);
+		Repository springBoot = repository("spring-projects", "spring-boot", Instant.parse("2026-05-31T10:00:00Z"));
+		Repository updatedSpringBoot = repository("spring-projects", "spring-boot",
+				Instant.parse("2026-05-31T23:00:00Z"));
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot), page(springBoot),
+				page(updatedSpringBoot));
+		given(this.gitHub.getMilestones(springBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		given(this.gitHub.getMilestones(updatedSpringBoot))
+			.willReturn(page(new Milestone("3.5.1", ZonedDateTime.now(clock).plusDays(2), State.OPEN, 1)));
+		scheduledSource.get();
+		scheduledSource.get();
+		verify(this.gitHub, times(1)).getMilestones(springBoot);
+		scheduledSource.get();
+		verify(this.gitHub, times(1)).getMilestones(updatedSpringBoot);
+	}
+
+	@Test
+	void whenMilestoneChangeIsAppliedThenReleaseScheduleCombinesAllOfTheProjectsRepositories() {
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		Repository springBootCommercial = repository("spring-projects", "spring-boot-commercial", Visibility.PRIVATE);
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot, springBootCommercial));
+		ZonedDateTime dueOn = ZonedDateTime.parse("2026-06-19T07:00:00Z");
+		given(this.gitHub.getMilestones(springBoot)).willReturn(page(new Milestone("3.5.1", dueOn, State.OPEN, 1),
+				new Milestone("3.5.2", dueOn.plusMonths(1), State.OPEN, 2)));
+		given(this.gitHub.getMilestones(springBootCommercial))
+			.willReturn(page(new Milestone("3.3.13", dueOn, State.OPEN, 7)));
+		this.source.get();
+		ReleaseSchedule releaseSchedule = this.source.applyMilestoneChange("spring-projects/spring-boot",
+				new Milestone("3.5.1", dueOn, State.CLOSED, 1), false);
+		assertThat(releaseSchedule.getProject()).isEqualTo("Spring Boot");
+		assertThat(releaseSchedule.getReleases()).extracting("name", "status")
+			.containsExactly(tuple("3.5.1", Status.CLOSED), tuple("3.5.2", Status.OPEN),
+					tuple("3.3.13", Status.OPEN));
+	}
+
+	@Test
+	void whenMilestoneDeletionIsAppliedThenItsReleaseIsRemoved() {
+		Repository springBoot = repository("spring-projects", "spring-boot");
+		given(this.gitHub.getRepositories("spring-projects")).willReturn(page(springBoot));
+		ZonedDateTime dueOn = ZonedDateTime.parse("2026-06-19T07:00:00Z");
+		Milestone milestone = new Milestone("3.5.1", dueOn, State.OPEN, 1);
+		given(this.gitHub.getMilestones(springBoot)).willReturn(page(milestone));
+		this.source.get();
+		ReleaseSchedule releaseSchedule = this.source.applyMilestoneChange("spring-projects/spring-boot",
+				milestone, true);
+		assertThat(releaseSchedule.getReleases()).isEmpty();
+	}
+
+	@Test
+	void whenMilestoneChangeIsForUnknownRepositoryThenItIsIgnored() {
+		this.source.get();
+		assertThat(this.source.applyMilestoneChange("spring-projects/spring-boot",
+				new Milestone("3.5.1", ZonedDateTime.now(), State.OPEN, 1), false))
+			.isNull();
+	}
+
+	private HttpHeaders rateLimitHeaders(int remaining, Instant reset) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-RateLimit-Remaining", Integer.toString(remaining));
+		headers.add("X-RateLimit-Reset", Long.toString(reset.getEpochSecond()));
+		return headers;
+	}
+
 	private Repository repository(String organization, String name) {
 		return this.repository(organization, name, Visibility.PUBLIC);
 	}
 
+	private Repository repository(String organization, String name, Instant pushedAt) {
+		return new Repository(name, organization + "/" + name,
+				"https://api.github.com/repos/%s/%s/milestones{/number}".formatted(organization, name),
+				"https://github.com/%s/%s".formatted(organization, name), Visibility.PUBLIC, false, true, pushedAt,
+				pushedAt);
+	}
+
 	private Repository repository(String organization, String name, Visibility visibility) {
 		return new Repository(name, organization + "/" + name,
 				"https://api.github.com/repos/%s/%s/milestones{/number}".formatted(organization, name),
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for {@link GitHubRequestMetrics}.
+ *
+ * @author agent (agent@local)
+ */
+class GitHubRequestMetricsTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+
+	private final RestTemplate rest = new RestTemplateBuilder(this.customizer)
+		.additionalInterceptors(new GitHubRequestMetrics(this.meterRegistry))
+		.build();
+
+	@Test
+	void requestsAreTimedByResourceAndStatus() {
+		MockRestServiceServer server = this.customizer.getServer();
+		server.expect(requestTo("https://api.github.com/orgs/spring-projects/repos?per_page=100"))
+			.andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+		server.expect(requestTo("https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all"))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		server.expect(requestTo("https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all"))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		this.rest.getForEntity("https://api.github.com/orgs/spring-projects/repos?per_page=100", String.class);
+		this.rest.getForEntity("https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all",
+				String.class);
+		this.rest.getForEntity("https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all",
+				String.class);
+		server.verify();
+		assertThat(this.meterRegistry.get("github.requests")
+			.tags("resource", "repositories", "status", "200")
+			.timer()
+			.count()).isOne();
+		assertThat(this.meterRegistry.get("github.requests")
+			.tags("resource", "milestones", "status", "304")
+			.timer()
+			.count()).isEqualTo(2);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,18 @@ package io.spring.calendar.github;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,6 +41,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,11 +55,19 @@ import org.springframework.test.context.TestExecutionListeners.MergeMode;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.client.RequestMatcher;
 import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.test.web.client.UnorderedRequestExpectationManager;
+import org.springframework.test.web.client.response.DefaultResponseCreator;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
@@ -78,6 +95,9 @@ class GitHubTemplateTests {
 	@Autowired
 	private TestMethodResponseCreator testMethodResponse;
 
+	@Autowired
+	private ConditionalRequestCache cache;
+
 	@Autowired
 	RestTemplateBuilder restTemplateBuilder;
 
@@ -87,7 +107,7 @@ class GitHubTemplateTests {
 			.expect(requestTo(
 					"https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all&per_page=100"))
 			.andRespond(this.testMethodResponse);
-		Page<Milestone> page = this.gitHub.getMilestones(this.repository, null);
+		Page<Milestone> page = this.gitHub.getMilestones(this.repository);
 		assertThat(page.getContent()).hasSize(68);
 		this.server.verify();
 		assertThat(page.getContent().get(67).getState()).isEqualTo(Milestone.State.OPEN);
@@ -98,12 +118,50 @@ class GitHubTemplateTests {
 	void getRepositories() throws MalformedURLException {
 		this.server.expect(requestTo("https://api.github.com/orgs/spring-projects/repos?per_page=100"))
 			.andRespond(this.testMethodResponse);
-		Page<Repository> page = this.gitHub.getRepositories("spring-projects", null);
+		Page<Repository> page = this.gitHub.getRepositories("spring-projects");
 		assertThat(page.getContent()).hasSize(30);
 		assertThat(page.getContent().get(0).getMilestonesUrl())
 			.isEqualTo(new URL("https://api.github.com/repos/spring-projects/spring-data-commons/milestones"));
 		assertThat(page.getContent().get(0)).extracting("htmlUrl")
 			.isEqualTo(new URL("https://github.com/spring-projects/spring-data-commons"));
+		assertThat(page.getContent().get(0).isArchived()).isFalse();
+		assertThat(page.getContent().get(0).hasIssues()).isTrue();
+		assertThat(page.getContent().get(0).getUpdatedAt()).isEqualTo(Instant.parse("2024-05-31T03:50:48Z"));
+		assertThat(page.getContent().get(0).getPushedAt()).isEqualTo(Instant.parse("2024-05-30T21:45:06Z"));
+		assertThat(page.getContent().get(4).getName()).isEqualTo("spring-data-gemfire");
+		assertThat(page.getContent().get(4).hasIssues()).isFalse();
+		this.server.verify();
+	}
+
+	@Test
+	void whenGetRepositoriesIsUnauthorizedThenExceptionIsThrown() {
+		this.server.expect(requestTo("https://api.github.com/orgs/spring-projects/repos?per_page=100"))
+			.andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+		assertThatExceptionOfType(HttpClientErrorException.Unauthorized.class)
+			.isThrownBy(() -> this.gitHub.getRepositories("spring-projects"));
+		this.server.verify();
+	}
+
+	@Test
+	void whenGetMilestonesFailsWithAServerErrorThenExceptionIsThrown() {
+		this.server
+			.expect(requestTo(
+					"https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all&per_page=100"))
+			.andRespond(withServerError());
+		assertThatExceptionOfType(HttpServerErrorException.InternalServerError.class)
+			.isThrownBy(() -> this.gitHub.getMilestones(this.repository));
+		this.server.verify();
+	}
+
+	@Test
+	void whenRateLimitHasBeenExceededThenExceptionIsThrown() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-RateLimit-Remaining", "0");
+		headers.set("X-RateLimit-Reset", "1700000000");
+		this.server.expect(requestTo("https://api.github.com/orgs/spring-projects/repos?per_page=100"))
+			.andRespond(withStatus(HttpStatus.FORBIDDEN).headers(headers));
+		assertThatIllegalStateException().isThrownBy(() -> this.gitHub.getRepositories("spring-projects"))
+			.withMessageStartingWith("Rate limit exceeded.");
 		this.server.verify();
 	}
 
@@ -116,7 +174,7 @@ class GitHubTemplateTests {
 		this.server.expect(requestTo(createUrl(2))).andRespond(response(3, 3));
 		this.server.expect(requestTo(createUrl(3)))
 			.andRespond(withSuccess().body("[]").contentType(MediaType.APPLICATION_JSON));
-		Page<Milestone> page = this.gitHub.getMilestones(this.repository, null);
+		Page<Milestone> page = this.gitHub.getMilestones(this.repository);
 		page.next().next();
 		this.server.verify();
 	}
@@ -136,25 +194,190 @@ class GitHubTemplateTests {
 		this.server.expect(requestTo(createUrl(3)))
 			.andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"cde\""))
 			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
-		Page<Milestone> firstPage = this.gitHub.getMilestones(this.repository, null);
+		Page<Milestone> firstPage = this.gitHub.getMilestones(this.repository);
 		firstPage.next().next();
-		this.gitHub.getMilestones(this.repository, firstPage).next().next();
+		this.gitHub.getMilestones(this.repository).next().next();
 		this.server.verify();
 	}
 
 	@Test
 	void requestIsNotConditionalWhenEarlierContentFilledThePage() throws JsonProcessingException {
 		String originalUrl = "https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all&per_page=100";
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"full\"");
 		this.server.expect(requestTo(originalUrl))
 			.andRespond(withSuccess().body(new ObjectMapper().writeValueAsString(createMilestones(100)))
+				.headers(headers)
 				.contentType(MediaType.APPLICATION_JSON));
 		this.server.expect(requestTo(originalUrl))
 			.andExpect(missingHeader("If-None-Match"))
 			.andRespond(withSuccess().body(new ObjectMapper().writeValueAsString(createMilestones(100)))
 				.contentType(MediaType.APPLICATION_JSON));
-		Page<Milestone> firstPage = this.gitHub.getMilestones(this.repository, null);
-		this.gitHub.getMilestones(this.repository, firstPage);
+		this.gitHub.getMilestones(this.repository);
+		this.gitHub.getMilestones(this.repository);
+		this.server.verify();
+	}
+
+	@Test
+	void conditionalRequestsForRepositories() {
+		String url = "https://api.github.com/orgs/spring-projects/repos?per_page=100";
+		this.server.expect(requestTo(url)).andRespond(response("\"repos\""));
+		this.server.expect(requestTo(url))
+			.andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"repos\""))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		this.gitHub.getRepositories("spring-projects");
+		this.gitHub.getRepositories("spring-projects");
+		this.server.verify();
+	}
+
+	@Test
+	void whenResponseIsNotModifiedThenCachedContentIsUsedAndHitIsRecorded() {
+		String url = "https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all&per_page=100";
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"one\"");
+		this.server.expect(requestTo(url))
+			.andRespond(withSuccess()
+				.body("[{\"title\":\"3.5.0\",\"due_on\":\"2025-05-22T07:00:00Z\",\"state\":\"open\",\"number\":1}]")
+				.headers(headers)
+				.contentType(MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo(url))
+			.andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"one\""))
+			.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+		long hits = this.cache.getHits();
+		long misses = this.cache.getMisses();
+		this.gitHub.getMilestones(this.repository);
+		Page<Milestone> page = this.gitHub.getMilestones(this.repository);
 		this.server.verify();
+		assertThat(page.getContent()).singleElement().extracting(Milestone::getTitle).isEqualTo("3.5.0");
+		assertThat(page.getEtag()).isEqualTo("\"one\"");
+		assertThat(this.cache.getHits()).isEqualTo(hits + 1);
+		assertThat(this.cache.getMisses()).isEqualTo(misses + 1);
+	}
+
+	@Test
+	void whenFirstPageLinksToLastPageThenRemainingPagesAreFetchedConcurrentlyAndReturnedInOrder() throws Exception {
+		MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer(
+				UnorderedRequestExpectationManager.class);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			GitHubTemplate gitHub = new GitHubTemplate("bearer-token", new RegexLinkParser(),
+					new RestTemplateBuilder(customizer), new ConditionalRequestCache(), executor);
+			MockRestServiceServer server = customizer.getServer();
+			CountDownLatch latch = new CountDownLatch(3);
+			server.expect(requestTo(
+					"https://api.github.com/repos/spring-projects/spring-boot/milestones?state=all&per_page=100"))
+				.andRespond(response(2, 4));
+			for (int page = 2; page <= 4; page++) {
+				server.expect(requestTo(createUrl(page))).andRespond(awaitingResponse(latch, page));
+			}
+			List<String> titles = new ArrayList<>();
+			Page<Milestone> page = gitHub.getMilestones(this.repository);
+			while (page != null) {
+				page.getContent().forEach((milestone) -> titles.add(milestone.getTitle()));
+				page = page.next();
+			}
+			server.verify();
+			assertThat(titles).containsExactly("page-2", "page-3", "page-4");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void whenMilestoneHistoryIsCurrentThenOnlyOpenAndRecentlyClosedMilestonesAreRetrieved() {
+		MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+		MilestoneHistory history = new MilestoneHistory(
+				Clock.fixed(Instant.parse("2026-03-05T00:00:00Z"), ZoneOffset.UTC), Duration.ofDays(1));
+		GitHubTemplate gitHub = new GitHubTemplate("bearer-token", new RegexLinkParser(),
+				new RestTemplateBuilder(customizer), new ConditionalRequestCache(), Runnable::run, history);
+		MockRestServiceServer server = customizer.getServer();
+		String milestonesUrl = "https://api.github.com/repos/spring-projects/spring-boot/milestones";
+		server.expect(requestTo(milestonesUrl + "?state=all&per_page=100"))
+			.andRespond(milestones(milestone(3, "1.2.0", "open", "2026-03-10", "2026-02-20"),
+					milestone(2, "1.1.0", "closed", "2026-02-10", "2026-02-11"),
+					milestone(1, "1.0.0", "closed", "2026-01-10", "2026-01-11")));
+		assertThat(gitHub.getMilestones(this.repository).getContent()).extracting(Milestone::getTitle)
+			.containsExactly("1.0.0", "1.1.0", "1.2.0");
+		server.verify();
+		server.reset();
+		server.expect(requestTo(milestonesUrl + "?state=open&sort=due_on&per_page=100"))
+			.andRespond(milestones(milestone(2, "1.1.0", "open", "2026-02-10", "2026-03-01"),
+					milestone(3, "1.2.0", "open", "2026-03-10", "2026-02-20")));
+		String closedUrl = milestonesUrl + "?state=closed&sort=due_on&direction=desc&per_page=1";
+		server.expect(requestTo(milestonesUrl + "?state=closed&sort=due_on&direction=desc&per_page=100"))
+			.andRespond(milestones(milestone(4, "1.1.1", "closed", "2026-02-20", "2026-03-02"))
+				.header("Link", "<" + closedUrl + "&page=2>; rel=\"next\""));
+		server.expect(requestTo(closedUrl + "&page=2"))
+			.andRespond(milestones(milestone(1, "1.0.0", "closed", "2026-01-10", "2026-01-11"))
+				.header("Link", "<" + closedUrl + "&page=3>; rel=\"next\""));
+		assertThat(gitHub.getMilestones(this.repository).getContent())
+			.extracting(Milestone::getTitle, Milestone::getState)
+			.containsExactly(tuple("1.0.0", Milestone.State.CLOSED), tuple("1.1.0", Milestone.State.OPEN),
+					tuple("1.1.1", Milestone.State.CLOSED), tuple("1.2.0", Milestone.State.OPEN));
+		server.verify();
+		assertThat(history.getWatermark("spring-projects/spring-boot"))
+			.isEqualTo(Instant.parse("2026-03-02T00:00:00Z"));
+	}
+
+	@Test
+	void whenOpenMilestoneWithAnOldDueDateIsClosedThenAllMilestonesAreRetrieved() {
+		MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+		MilestoneHistory history = new MilestoneHistory(
+				Clock.fixed(Instant.parse("2026-03-05T00:00:00Z"), ZoneOffset.UTC), Duration.ofDays(1));
+		GitHubTemplate gitHub = new GitHubTemplate("bearer-token", new RegexLinkParser(),
+				new RestTemplateBuilder(customizer), new ConditionalRequestCache(), Runnable::run, history);
+		MockRestServiceServer server = customizer.getServer();
+		String milestonesUrl = "https://api.github.com/repos/spring-projects/spring-boot/milestones";
+		server.expect(requestTo(milestonesUrl + "?state=all&per_page=100"))
+			.andRespond(milestones(milestone(1, "0.9.0", "open", "2025-06-10", "2025-06-01"),
+					milestone(3, "1.2.0", "open", "2026-03-10", "2026-02-20"),
+					milestone(2, "1.1.0", "closed", "2026-02-10", "2026-02-11")));
+		gitHub.getMilestones(this.repository);
+		server.verify();
+		server.reset();
+		server.expect(requestTo(milestonesUrl + "?state=open&sort=due_on&per_page=100"))
+			.andRespond(milestones(milestone(3, "1.2.0", "open", "2026-03-10", "2026-02-20")));
+		server.expect(requestTo(milestonesUrl + "?state=all&per_page=100"))
+			.andRespond(milestones(milestone(1, "0.9.0", "closed", "2025-06-10", "2026-03-04"),
+					milestone(3, "1.2.0", "open", "2026-03-10", "2026-02-20"),
+					milestone(2, "1.1.0", "closed", "2026-02-10", "2026-02-11")));
+		assertThat(gitHub.getMilestones(this.repository).getContent())
+			.extracting(Milestone::getTitle, Milestone::getState)
+			.containsExactly(tuple("0.9.0", Milestone.State.CLOSED), tuple("1.1.0", Milestone.State.CLOSED),
+					tuple("1.2.0", Milestone.State.OPEN));
+		server.verify();
+		assertThat(history.getWatermark("spring-projects/spring-boot"))
+			.isEqualTo(Instant.parse("2026-03-04T00:00:00Z"));
+	}
+
+	private DefaultResponseCreator milestones(String... milestones) {
+		return withSuccess().body("[" + String.join(",", milestones) + "]").contentType(MediaType.APPLICATION_JSON);
+	}
+
+	private String milestone(int number, String title, String state, String dueOn, String updatedAt) {
+		return String.format(
+				"{\"number\":%d,\"title\":\"%s\",\"state\":\"%s\",\"due_on\":\"%sT08:00:00Z\","
+						+ "\"updated_at\":\"%sT00:00:00Z\"}",
+				number, title, state, dueOn, updatedAt);
+	}
+
+	private ResponseCreator awaitingResponse(CountDownLatch latch, int page) {
+		return (request) -> {
+			latch.countDown();
+			try {
+				if (!latch.await(5, TimeUnit.SECONDS)) {
+					throw new AssertionError("Remaining pages were not requested concurrently");
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+			return withSuccess().body("[{\"title\":\"page-" + page + "\",\"state\":\"open\",\"number\":" + page + "}]")
+				.contentType(MediaType.APPLICATION_JSON)
+				.createResponse(request);
+		};
 	}
 
 	private List<Map<String, String>> createMilestones(int count) {
@@ -219,8 +442,13 @@ class GitHubTemplateTests {
 	static class TemplateConfiguration {
 
 		@Bean
-		GitHubTemplate gitHubTemplate(RestTemplateBuilder restTemplateBuilder) {
-			return new GitHubTemplate("bearer-token", new RegexLinkParser(), restTemplateBuilder);
+		ConditionalRequestCache conditionalRequestCache() {
+			return new ConditionalRequestCache();
+		}
+
+		@Bean
+		GitHubTemplate gitHubTemplate(RestTemplateBuilder restTemplateBuilder, ConditionalRequestCache cache) {
+			return new GitHubTemplate("bearer-token", new RegexLinkParser(), restTemplateBuilder, cache);
 		}
 
 	}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.spring.calendar.github.Milestone.State;
+import io.spring.calendar.release.Release;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import io.spring.calendar.release.ReleaseRepository;
+import io.spring.calendar.release.ReleaseSchedule;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * Tests for {@link GitHubWebhookController}.
+ *
+ * @author agent (agent@local)
+ */
+@WebMvcTest(controllers = GitHubWebhookController.class,
+		properties = "calendar.github.webhook.secret=" + GitHubWebhookControllerTests.SECRET)
+class GitHubWebhookControllerTests {
+
+	static final String SECRET = "It's a Secret to Everybody";
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private GitHubReleaseScheduleSource releaseScheduleSource;
+
+	@MockitoBean
+	private ReleaseRepository releaseRepository;
+
+	@MockitoBean
+	private MilestoneHistory milestoneHistory;
+
+	@Test
+	void whenSignatureIsMissingThenDeliveryIsRejected() throws Exception {
+		this.mvc.perform(delivery("milestone", "milestone-closed").header("X-Hub-Signature-256", ""))
+			.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+		then(this.releaseRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void whenSignatureIsInvalidThenDeliveryIsRejected() throws Exception {
+		this.mvc
+			.perform(delivery("milestone", "milestone-closed").header("X-Hub-Signature-256",
+					signature("different payload".getBytes(StandardCharsets.UTF_8))))
+			.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+		then(this.releaseScheduleSource).shouldHaveNoInteractions();
+		then(this.releaseRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void whenPingIsReceivedThenNoContentIsReturned() throws Exception {
+		this.mvc.perform(signed(delivery("ping", "ping"), "ping"))
+			.andExpect(MockMvcResultMatchers.status().isNoContent());
+		then(this.releaseRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void whenMilestoneIsClosedThenReleasesOfItsProjectAreUpdated() throws Exception {
+		Release release = new Release("Spring Boot", "3.5.1", "2025-06-19", Status.CLOSED, null, Type.OSS);
+		given(this.releaseScheduleSource.applyMilestoneChange(eq("spring-projects/spring-boot"), any(), eq(false)))
+			.willReturn(new ReleaseSchedule("Spring Boot", List.of(release)));
+		this.mvc.perform(signed(delivery("milestone", "milestone-closed"), "milestone-closed"))
+			.andExpect(MockMvcResultMatchers.status().isNoContent());
+		then(this.releaseScheduleSource).should()
+			.applyMilestoneChange("spring-projects/spring-boot",
+					new Milestone("3.5.1", ZonedDateTime.parse("2025-06-19T07:00:00Z"), State.CLOSED, 412), false);
+		then(this.releaseRepository).should().update(Map.of("Spring Boot", List.of(release)));
+		then(this.milestoneHistory).should()
+			.apply("spring-projects/spring-boot",
+					new Milestone("3.5.1", ZonedDateTime.parse("2025-06-19T07:00:00Z"), State.CLOSED, 412), false);
+	}
+
+	@Test
+	void whenMilestoneIsDeletedThenReleasesOfItsProjectAreUpdated() throws Exception {
+		given(this.releaseScheduleSource.applyMilestoneChange(eq("spring-projects/spring-boot"), any(), eq(true)))
+			.willReturn(new ReleaseSchedule("Spring Boot", List.of()));
+		this.mvc.perform(signed(delivery("milestone", "milestone-deleted"), "milestone-deleted"))
+			.andExpect(MockMvcResultMatchers.status().isNoContent());
+		then(this.releaseRepository).should().update(Map.of("Spring Boot", List.of()));
+		then(this.milestoneHistory).should().apply(eq("spring-projects/spring-boot"), any(), eq(true));
+	}
+
+	@Test
+	void whenMilestoneIsInUnknownRepositoryThenDeliveryIsAcceptedAndReleasesAreNotUpdated() throws Exception {
+		this.mvc.perform(signed(delivery("milestone", "milestone-closed"), "milestone-closed"))
+			.andExpect(MockMvcResultMatchers.status().isAccepted());
+		then(this.releaseRepository).should(never()).update(anyMap());
+		then(this.milestoneHistory).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void whenEventIsNotAMilestoneEventThenDeliveryIsAcceptedAndIgnored() throws Exception {
+		this.mvc.perform(signed(delivery("issues", "milestone-closed"), "milestone-closed"))
+			.andExpect(MockMvcResultMatchers.status().isAccepted());
+		then(this.releaseScheduleSource).should(never()).applyMilestoneChange(anyString(), any(), anyBoolean());
+		then(this.releaseRepository).shouldHaveNoInteractions();
+	}
+
+	private MockHttpServletRequestBuilder delivery(String event, String payload) throws IOException {
+		return MockMvcRequestBuilders.post("/webhooks/github")
+			.contentType(MediaType.APPLICATION_JSON)
+			.header("X-GitHub-Event", event)
+			.content(payload(payload));
+	}
+
+	private MockHttpServletRequestBuilder signed(MockHttpServletRequestBuilder delivery, String payload)
+			throws Exception {
+		return delivery.header("X-Hub-Signature-256", signature(payload(payload)));
+	}
+
+	private byte[] payload(String name) throws IOException {
+		return new ClassPathResource("GitHubWebhookControllerTests-" + name + ".json", getClass())
+			.getContentAsByteArray();
+	}
+
+	private String signature(byte[] payload) throws Exception {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	@EnableConfigurationProperties(GitHubProperties.class)
+	static class WebhookConfiguration {
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link JsonArrayDecoder}.
+ *
+ * @author agent (agent@local)
+ */
+class JsonArrayDecoderTests {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@Test
+	void decodedMilestonesMatchThoseBoundByObjectMapper() throws IOException {
+		List<Milestone> decoded = JsonArrayDecoder.MILESTONES.decode(fixture("GitHubTemplateTests-getMilestones.json"));
+		List<Milestone> bound = List
+			.of(this.objectMapper.readValue(fixture("GitHubTemplateTests-getMilestones.json"), Milestone[].class));
+		assertThat(decoded).isNotEmpty().isEqualTo(bound);
+	}
+
+	@Test
+	void decodedRepositoriesMatchThoseBoundByObjectMapper() throws IOException {
+		List<Repository> decoded = JsonArrayDecoder.REPOSITORIES
+			.decode(fixture("GitHubTemplateTests-getRepositories.json"));
+		List<Repository> bound = List
+			.of(this.objectMapper.readValue(fixture("GitHubTemplateTests-getRepositories.json"), Repository[].class));
+		assertThat(decoded).isNotEmpty().usingRecursiveFieldByFieldElementComparator().isEqualTo(bound);
+	}
+
+	@Test
+	void nullValuesAndUnknownNestedFieldsAreHandled() throws IOException {
+		List<Milestone> milestones = JsonArrayDecoder.MILESTONES.decode(json("""
+				[{"creator":{"login":"wilkinsona","title":"ignored"},"labels":[{"title":"ignored"}],
+				"title":"3.5.1","due_on":null,"state":"open","number":412}]"""));
+		assertThat(milestones).singleElement().satisfies((milestone) -> {
+			assertThat(milestone.getTitle()).isEqualTo("3.5.1");
+			assertThat(milestone.getDueOn()).isNull();
+			assertThat(milestone.getState()).isEqualTo(Milestone.State.OPEN);
+			assertThat(milestone.getNumber()).isEqualTo(412);
+		});
+	}
+
+	@Test
+	void whenInputIsNotAnArrayThenDecodingFails() {
+		assertThatExceptionOfType(JsonParseException.class)
+			.isThrownBy(() -> JsonArrayDecoder.MILESTONES.decode(json("{\"message\":\"Not Found\"}")));
+	}
+
+	private InputStream fixture(String name) throws IOException {
+		return new ClassPathResource(name, getClass()).getInputStream();
+	}
+
+	private InputStream json(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import io.spring.calendar.github.Milestone.State;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link MilestoneHistory}.
+ *
+ * @author agent (agent@local)
+ */
+class MilestoneHistoryTests {
+
+	private static final String REPOSITORY = "spring-projects/spring-boot";
+
+	private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+
+	private final Clock clock = mock(Clock.class);
+
+	private final MilestoneHistory history = new MilestoneHistory(this.clock, Duration.ofDays(1));
+
+	@Test
+	void repositoryWithoutHistoryIsNotIncremental() {
+		assertThat(this.history.isIncremental(REPOSITORY)).isFalse();
+		assertThat(this.history.getWatermark(REPOSITORY)).isNull();
+	}
+
+	@Test
+	void replacingHistoryRetainsClosedMilestonesAndTracksTheirMostRecentUpdate() {
+		given(this.clock.instant()).willReturn(NOW);
+		this.history.replace(REPOSITORY, List.of(closed(1, "2026-05-01T00:00:00Z"), closed(2, "2026-05-10T00:00:00Z"),
+				open(3, "2026-05-20T00:00:00Z")));
+		assertThat(this.history.isIncremental(REPOSITORY)).isTrue();
+		assertThat(this.history.getWatermark(REPOSITORY)).isEqualTo(Instant.parse("2026-05-10T00:00:00Z"));
+		assertThat(this.history.update(REPOSITORY, List.of(), List.of())).extracting(Milestone::getNumber)
+			.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void historyIsNotIncrementalOnceFullRefreshIntervalHasElapsed() {
+		given(this.clock.instant()).willReturn(NOW);
+		this.history.replace(REPOSITORY, List.of(closed(1, "2026-05-01T00:00:00Z")));
+		given(this.clock.instant()).willReturn(NOW.plus(Duration.ofHours(23)));
+		this.history.update(REPOSITORY, List.of(), List.of(closed(2, "2026-06-01T18:00:00Z")));
+		assertThat(this.history.isIncremental(REPOSITORY)).isTrue();
+		given(this.clock.instant()).willReturn(NOW.plus(Duration.ofDays(1)));
+		assertThat(this.history.isIncremental(REPOSITORY)).isFalse();
+	}
+
+	@Test
+	void updateAddsRecentlyClosedMilestonesAndRemovesReopenedMilestones() {
+		given(this.clock.instant()).willReturn(NOW);
+		this.history.replace(REPOSITORY, List.of(closed(1, "2026-05-01T00:00:00Z"), closed(2, "2026-05-10T00:00:00Z")));
+		List<Milestone> closed = this.history.update(REPOSITORY, List.of(open(2, "2026-05-30T00:00:00Z")),
+				List.of(closed(3, "2026-05-31T00:00:00Z")));
+		assertThat(closed).extracting(Milestone::getNumber).containsExactly(1L, 3L);
+		assertThat(this.history.getWatermark(REPOSITORY)).isEqualTo(Instant.parse("2026-05-31T00:00:00Z"));
+	}
+
+	@Test
+	void whenAPreviouslyOpenMilestoneIsNoLongerOpenThenItHasBeenClosedOrDeleted() {
+		given(this.clock.instant()).willReturn(NOW);
+		this.history.replace(REPOSITORY, List.of(closed(1, "2026-05-01T00:00:00Z"), open(2, "2026-05-10T00:00:00Z"),
+				open(3, "2026-05-20T00:00:00Z")));
+		List<Milestone> open = List.of(open(2, "2026-05-10T00:00:00Z"), open(3, "2026-05-20T00:00:00Z"),
+				open(4, "2026-05-30T00:00:00Z"));
+		assertThat(this.history.hasClosedOrDeleted(REPOSITORY, open)).isFalse();
+		assertThat(this.history.hasClosedOrDeleted(REPOSITORY, List.of(open(3, "2026-05-20T00:00:00Z")))).isTrue();
+	}
+
+	@Test
+	void applyingAChangeUpdatesTheHistory() {
+		given(this.clock.instant()).willReturn(NOW);
+		this.history.replace(REPOSITORY, List.of(closed(1, "2026-05-01T00:00:00Z"), open(2, "2026-05-10T00:00:00Z"),
+				open(3, "2026-05-20T00:00:00Z")));
+		this.history.apply(REPOSITORY, closed(2, "2026-05-31T00:00:00Z"), false);
+		this.history.apply(REPOSITORY, open(3, "2026-05-31T00:00:00Z"), true);
+		assertThat(this.history.getWatermark(REPOSITORY)).isEqualTo(Instant.parse("2026-05-31T00:00:00Z"));
+		assertThat(this.history.hasClosedOrDeleted(REPOSITORY, List.of())).isFalse();
+		assertThat(this.history.update(REPOSITORY, List.of(), List.of())).extracting(Milestone::getNumber)
+			.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void applyingAChangeToARepositoryWithoutHistoryDoesNothing() {
+		this.history.apply(REPOSITORY, closed(1, "2026-05-01T00:00:00Z"), false);
+		assertThat(this.history.isIncremental(REPOSITORY)).isFalse();
+		assertThat(this.history.getWatermark(REPOSITORY)).isNull();
+	}
+
+	private Milestone open(long number, String updatedAt) {
+		return new Milestone("1.0." + number, null, State.OPEN, number, Instant.parse(updatedAt));
+	}
+
+	private Milestone closed(long number, String updatedAt) {
+		return new Milestone("1.0." + number, null, State.CLOSED, number, Instant.parse(updatedAt));
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RateLimitBudget}.
+ *
+ * @author agent (agent@local)
+ */
+class RateLimitBudgetTests {
+
+	private final Clock clock = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+	private final RateLimitBudget budget = new RateLimitBudget(this.clock, Duration.ofMinutes(5), 100);
+
+	@Test
+	void whenNoRateLimitHeadersHaveBeenSeenThenAllowanceIsUnlimited() {
+		this.budget.update(new HttpHeaders());
+		assertThat(this.budget.allowance()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(this.budget.getRemaining()).isEqualTo(-1);
+		assertThat(this.budget.getReset()).isNull();
+	}
+
+	@Test
+	void remainingRequestsLessTheReserveAreSpreadAcrossTheCyclesBeforeTheReset() {
+		this.budget.update(headers(1100, Duration.ofMinutes(50)));
+		assertThat(this.budget.allowance()).isEqualTo(100);
+	}
+
+	@Test
+	void partialCycleBeforeResetCountsAsACycle() {
+		this.budget.update(headers(1100, Duration.ofMinutes(48)));
+		assertThat(this.budget.allowance()).isEqualTo(100);
+	}
+
+	@Test
+	void whenRemainingRequestsAreWithinTheReserveThenAllowanceIsZero() {
+		this.budget.update(headers(50, Duration.ofMinutes(30)));
+		assertThat(this.budget.allowance()).isZero();
+	}
+
+	@Test
+	void whenLimitHasResetThenAllowanceIsUnlimited() {
+		this.budget.update(headers(0, Duration.ofMinutes(-1)));
+		assertThat(this.budget.allowance()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@Test
+	void whenResponsesForTheSameWindowArriveOutOfOrderThenLowestRemainingIsUsed() {
+		this.budget.update(headers(900, Duration.ofMinutes(30)));
+		this.budget.update(headers(950, Duration.ofMinutes(30)));
+		assertThat(this.budget.getRemaining()).isEqualTo(900);
+	}
+
+	@Test
+	void whenResponseIsForANewWindowThenItReplacesThePreviousWindow() {
+		this.budget.update(headers(10, Duration.ofMinutes(1)));
+		this.budget.update(headers(4999, Duration.ofMinutes(61)));
+		assertThat(this.budget.getRemaining()).isEqualTo(4999);
+		assertThat(this.budget.getReset()).isEqualTo(this.clock.instant().plus(Duration.ofMinutes(61)));
+	}
+
+	@Test
+	void remainingAndLimitAreExposedAsGauges() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		this.budget.bindTo(registry);
+		assertThat(registry.get("github.ratelimit.remaining").gauge().value()).isNaN();
+		this.budget.update(headers(4321, Duration.ofMinutes(30)));
+		assertThat(registry.get("github.ratelimit.remaining").gauge().value()).isEqualTo(4321);
+		assertThat(registry.get("github.ratelimit.limit").gauge().value()).isEqualTo(5000);
+	}
+
+	private HttpHeaders headers(int remaining, Duration untilReset) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-RateLimit-Limit", "5000");
+		headers.add("X-RateLimit-Remaining", Integer.toString(remaining));
+		headers.add("X-RateLimit-Reset", Long.toString(this.clock.instant().plus(untilReset).getEpochSecond()));
+		return headers;
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.calendar.github.Milestone.State;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RefreshScheduler}.
+ *
+ * @author agent (agent@local)
+ */
+class RefreshSchedulerTests {
+
+	private static final String REPOSITORY = "spring-projects/spring-boot";
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-06-01T12:00:00Z"));
+
+	private final RefreshScheduler scheduler = new RefreshScheduler(this.clock, Duration.ofMinutes(5),
+			Duration.ofHours(1), Duration.ofDays(14), Duration.ofDays(1));
+
+	@Test
+	void repositoryThatHasNeverBeenRefreshedIsDue() {
+		assertThat(this.scheduler.isDue(REPOSITORY)).isTrue();
+		assertThat(this.scheduler.getMilestones(REPOSITORY)).isNull();
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isZero();
+	}
+
+	@Test
+	void hotRepositoryIsRefreshedAtMinimumInterval() {
+		List<Milestone> milestones = List.of(openMilestoneDueIn(Duration.ofDays(3)));
+		for (int i = 0; i < 5; i++) {
+			assertThat(this.scheduler.isDue(REPOSITORY)).isTrue();
+			this.scheduler.refreshed(REPOSITORY, milestones);
+			assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+			this.clock.advance(Duration.ofMinutes(4));
+			assertThat(this.scheduler.isDue(REPOSITORY)).isTrue();
+			this.clock.advance(Duration.ofMinutes(1));
+		}
+	}
+
+	@Test
+	void coldRepositoryBacksOffExponentiallyUpToMaximumInterval() {
+		List<Milestone> milestones = List.of(closedMilestone());
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(20));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(40));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofHours(1));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofHours(1));
+	}
+
+	@Test
+	void coldRepositoryIsNotDueUntilItsIntervalHasNearlyElapsed() {
+		List<Milestone> milestones = Collections.emptyList();
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(20));
+		this.clock.advance(Duration.ofMinutes(15));
+		assertThat(this.scheduler.isDue(REPOSITORY)).isFalse();
+		this.clock.advance(Duration.ofMinutes(3));
+		assertThat(this.scheduler.isDue(REPOSITORY)).isTrue();
+	}
+
+	@Test
+	void recentlyChangedRepositoryIsHot() {
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(20));
+		this.clock.advance(Duration.ofMinutes(20));
+		List<Milestone> changed = List.of(closedMilestone(), openMilestoneDueIn(Duration.ofDays(60)));
+		this.scheduler.refreshed(REPOSITORY, changed);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+		this.clock.advance(Duration.ofHours(23));
+		this.scheduler.refreshed(REPOSITORY, changed);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+		this.clock.advance(Duration.ofHours(2));
+		this.scheduler.refreshed(REPOSITORY, changed);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+	}
+
+	@Test
+	void repositoryBecomesHotWhenItsOpenMilestoneIsDueSoon() {
+		List<Milestone> milestones = List.of(openMilestoneDueIn(Duration.ofDays(20)));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(2);
+		this.clock.advance(Duration.ofDays(5));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(1);
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	@Test
+	void repositoryWithOpenMilestoneThatIsLongOverdueIsNotHot() {
+		List<Milestone> milestones = List.of(openMilestoneDueIn(Duration.ofDays(-90)));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(2);
+	}
+
+	@Test
+	void repositoryWithOpenMilestoneThatHasJustBecomeOverdueIsHot() {
+		List<Milestone> milestones = List.of(openMilestoneDueIn(Duration.ofHours(36)));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(1);
+		this.clock.advance(Duration.ofDays(1));
+		this.scheduler.refreshed(REPOSITORY, milestones);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(2);
+	}
+
+	@Test
+	void repositoryWithOnlyClosedMilestonesHasLowestPriority() {
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		assertThat(this.scheduler.getPriority(REPOSITORY)).isEqualTo(3);
+	}
+
+	@Test
+	void updatingMilestonesOfRepositoryThatHasNeverBeenRefreshedDoesNothing() {
+		assertThat(this.scheduler.updateMilestones(REPOSITORY, (milestones) -> List.of(closedMilestone()))).isNull();
+		assertThat(this.scheduler.getMilestones(REPOSITORY)).isNull();
+	}
+
+	@Test
+	void updatingMilestonesDoesNotRescheduleRefreshButMakesRepositoryHot() {
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		this.clock.advance(Duration.ofDays(2));
+		this.scheduler.refreshed(REPOSITORY, List.of(closedMilestone()));
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		Milestone opened = openMilestoneDueIn(Duration.ofDays(60));
+		List<Milestone> updated = this.scheduler.updateMilestones(REPOSITORY, (milestones) -> List.of(opened));
+		assertThat(updated).containsExactly(opened);
+		assertThat(this.scheduler.getMilestones(REPOSITORY)).containsExactly(opened);
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(10));
+		this.clock.advance(Duration.ofMinutes(10));
+		this.scheduler.refreshed(REPOSITORY, List.of(opened));
+		assertThat(this.scheduler.getInterval(REPOSITORY)).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	private Milestone openMilestoneDueIn(Duration duration) {
+		return new Milestone("3.5.1", ZonedDateTime.ofInstant(this.clock.instant().plus(duration), ZoneOffset.UTC),
+				State.OPEN, 2);
+	}
+
+	private Milestone closedMilestone() {
+		return new Milestone("3.5.0", ZonedDateTime.parse("2026-05-22T07:00:00Z"), State.CLOSED, 1);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		private void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.github;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * Tests for {@link SinglePassLinkParser}.
+ *
+ * @author agent (agent@local)
+ */
+class SinglePassLinkParserTests {
+
+	private static final List<String> RELS = List.of("first", "prev", "next", "last");
+
+	private final SinglePassLinkParser parser = new SinglePassLinkParser();
+
+	private final Random random = new Random(20260601L);
+
+	@Test
+	void parsesNextAndLastLinks() {
+		assertThat(this.parser.parse("<https://api.github.com/orgs/spring-projects/repos?page=2>; rel=\"next\", "
+				+ "<https://api.github.com/orgs/spring-projects/repos?page=9>; rel=\"last\""))
+			.containsOnly(Map.entry("next", "https://api.github.com/orgs/spring-projects/repos?page=2"),
+					Map.entry("last", "https://api.github.com/orgs/spring-projects/repos?page=9"));
+	}
+
+	@Test
+	void ignoresOtherRelations() {
+		assertThat(this.parser.parse("<https://example.com/?page=1>; rel=\"first\", <https://example.com/?page=3>; "
+				+ "rel=\"prev\""))
+			.isEmpty();
+	}
+
+	@Test
+	void toleratesWhitespaceParameterOrderingAndUnquotedValues() {
+		assertThat(this.parser.parse(" <https://example.com/?page=2> ;\ttitle=\"Next, please\" ; REL = next ,"
+				+ "<https://example.com/?page=9>;rel=last;type=\"application/json\""))
+			.containsOnly(Map.entry("next", "https://example.com/?page=2"),
+					Map.entry("last", "https://example.com/?page=9"));
+	}
+
+	@Test
+	void supportsSeveralRelationTypesInOneLink() {
+		assertThat(this.parser.parse("<https://example.com/?page=2>; rel=\"next last\""))
+			.containsOnly(Map.entry("next", "https://example.com/?page=2"),
+					Map.entry("last", "https://example.com/?page=2"));
+	}
+
+	@Test
+	void supportsCommasInUris() {
+		assertThat(this.parser.parse("<https://example.com/?labels=a,b&page=2>; rel=\"next\""))
+			.containsOnly(Map.entry("next", "https://example.com/?labels=a,b&page=2"));
+	}
+
+	@Test
+	void nullOrEmptyHeaderHasNoLinks() {
+		assertThat(this.parser.parse(null)).isEmpty();
+		assertThat(this.parser.parse("")).isEmpty();
+		assertThat(this.parser.parse(" , ")).isEmpty();
+	}
+
+	@Test
+	void nextAndLastLinksMatchThoseOfRegexLinkParser() {
+		RegexLinkParser regexParser = new RegexLinkParser();
+		for (int i = 0; i < 10_000; i++) {
+			String header = randomHeader();
+			Map<String, String> expected = new HashMap<>(regexParser.parse(header));
+			expected.keySet().retainAll(List.of("next", "last"));
+			assertThat(this.parser.parse(header)).as(header).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void linksAreUnaffectedByWhitespaceAndParameterOrdering() {
+		for (int i = 0; i < 10_000; i++) {
+			List<String> rels = randomRels();
+			List<String> urls = rels.stream().map((rel) -> randomUrl()).toList();
+			String canonical = header(rels, urls, false);
+			String varied = header(rels, urls, true);
+			assertThat(this.parser.parse(varied)).as(varied).isEqualTo(this.parser.parse(canonical));
+		}
+	}
+
+	@Test
+	void malformedHeadersDoNotCauseFailures() {
+		String alphabet = "<>;,=\" \t\\relnxtasp:/?&";
+		for (int i = 0; i < 10_000; i++) {
+			StringBuilder header = new StringBuilder();
+			int length = this.random.nextInt(40);
+			for (int j = 0; j < length; j++) {
+				header.append(alphabet.charAt(this.random.nextInt(alphabet.length())));
+			}
+			assertThatNoException().as(header.toString()).isThrownBy(() -> this.parser.parse(header.toString()));
+		}
+	}
+
+	private String randomHeader() {
+		List<String> rels = randomRels();
+		return header(rels, rels.stream().map((rel) -> randomUrl()).toList(), false);
+	}
+
+	private List<String> randomRels() {
+		List<String> rels = new ArrayList<>(RELS);
+		Collections.shuffle(rels, this.random);
+		return rels.subList(0, this.random.nextInt(rels.size() + 1));
+	}
+
+	private String randomUrl() {
+		return "https://api.github.com/repositories/" + this.random.nextInt(1_000_000) + "/milestones?state=all"
+				+ "&per_page=" + (1 + this.random.nextInt(100)) + "&page=" + (1 + this.random.nextInt(50));
+	}
+
+	private String header(List<String> rels, List<String> urls, boolean vary) {
+		StringBuilder header = new StringBuilder();
+		for (int i = 0; i < rels.size(); i++) {
+			if (i > 0) {
+				header.append(vary ? whitespace() + "," + whitespace() : ", ");
+			}
+			header.append('<').append(urls.get(i)).append('>');
+			String rel = (vary && this.random.nextBoolean()) ? "rel=" + rels.get(i) : "rel=\"" + rels.get(i) + "\"";
+			if (vary && this.random.nextBoolean()) {
+				header.append(whitespace()).append(';').append(whitespace()).append("title=\"Page; one, two\"");
+			}
+			header.append(vary ? whitespace() + ";" + whitespace() : "; ").append(rel);
+			if (vary && this.random.nextBoolean()) {
+				header.append(whitespace()).append(';').append(whitespace()).append("type=application/json");
+			}
+		}
+		return header.toString();
+	}
+
+	private String whitespace() {
+		return " \t ".substring(0, this.random.nextInt(3));
+	}
+
+}
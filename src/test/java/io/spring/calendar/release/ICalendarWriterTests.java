@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.spring.calendar.release;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+import biweekly.Biweekly;
+import biweekly.ICalendar;
+import biweekly.component.VEvent;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ICalendarWriter}.
+ *
+ * @author agent (agent@local)
+ */
+class ICalendarWriterTests {
+
+	@Test
+	void whenThereAreNoReleasesThenOutputMatchesBiweekly() throws Exception {
+		assertThat(write("Spring Releases", List.of())).isEqualTo(biweekly("Spring Releases", List.of()));
+	}
+
+	@Test
+	void whenThereAreReleasesThenOutputMatchesBiweekly() throws Exception {
+		List<Release> releases = List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS),
+				release("Spring Boot", "2.7.21", "2024-06-20", Type.ENTERPRISE),
+				release("Spring Cloud Data Flow", "2.11.4", "2024-12-31", Type.OSS),
+				release("Spring Framework", "6.2.0-M1", "2024-01-01", Type.OSS));
+		assertThat(write("Spring Releases", releases)).isEqualTo(biweekly("Spring Releases", releases));
+	}
+
+	@Test
+	void whenSummaryHasCharactersThatMustBeEscapedThenOutputMatchesBiweekly() throws Exception {
+		List<Release> releases = List.of(release("Spring; Boot", "3.3.1, 3.3.2", "2024-06-20", Type.OSS),
+				release("Spring\\Boot", "3.3.1\nhotfix", "2024-06-20", Type.OSS),
+				release("Spring\r\nBoot", "3.3.1", "2024-06-20", Type.OSS));
+		assertThat(write("Spring Releases", releases)).isEqualTo(biweekly("Spring Releases", releases));
+	}
+
+	@Test
+	void whenLinesAreLongThenTheyAreFoldedTheSameAsBiweekly() throws Exception {
+		List<Release> releases = List.of(release("Spring Cloud Stream Applications For Kafka And RabbitMQ",
+				"2024.0.0-M1-with-a-very-long-release-name-that-needs-more-than-two-lines-when-it-is-folded",
+				"2024-06-20", Type.ENTERPRISE));
+		String written = write("Spring Enterprise Releases", releases);
+		assertThat(written).contains("\r\n ");
+		assertThat(written).isEqualTo(biweekly("Spring Enterprise Releases", releases));
+	}
+
+	@Test
+	void calendarIdentifiesSpringCalendarAsItsProduct() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new ICalendarWriter(output).write("Spring Releases", List.of());
+		assertThat(output.toString(StandardCharsets.UTF_8)).contains("PRODID:-//spring.io//Spring Calendar//EN\r\n");
+	}
+
+	@Test
+	void whenLinesContainMultiByteCharactersThenTheyAreFoldedAtCharacterBoundariesWithinSeventyFiveOctets()
+			throws Exception {
+		String name = "Spring Bööt ".repeat(20).trim();
+		List<Release> releases = List.of(release(name, "3.3.1", "2024-06-20", Type.OSS));
+		String written = write("Spring Releases", releases);
+		for (String line : written.split("\r\n")) {
+			assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+		}
+		List<VEvent> events = Biweekly.parse(written).first().getEvents();
+		assertThat(events).singleElement()
+			.satisfies((event) -> assertThat(event.getSummary().getValue()).isEqualTo(name + " 3.3.1"));
+	}
+
+	private String write(String name, List<Release> releases) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new ICalendarWriter(output).write(name, releases);
+		return normalize(output.toString(StandardCharsets.UTF_8));
+	}
+
+	private String biweekly(String name, List<Release> releases) throws ParseException {
+		ICalendar calendar = new ICalendar();
+		calendar.setExperimentalProperty("X-WR-CALNAME", name);
+		for (Release release : releases) {
+			VEvent event = new VEvent();
+			event.setSummary(release.getDescription());
+			Date date = new SimpleDateFormat("yyyy-MM-dd").parse(release.getDate());
+			event.setDateStart(date, false);
+			event.setDateEnd(date, false);
+			calendar.addEvent(event);
+		}
+		return normalize(Biweekly.write(calendar).go());
+	}
+
+	private String normalize(String calendar) {
+		return calendar.replaceAll("PRODID:[^\r]+\r\n", "PRODID:id\r\n")
+			.replaceAll("UID:[^\r]+\r\n", "UID:uid\r\n")
+			.replaceAll("DTSTAMP:[^\r]+\r\n", "DTSTAMP:stamp\r\n");
+	}
+
+	private Release release(String project, String name, String date, Type type) {
+		return new Release(project, name, date, Status.CLOSED, null, type);
+	}
+
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InMemoryReleaseRepository}.
+ *
+ * @author agent (agent@local)
+ */
+class InMemoryReleaseRepositoryTests {
+
+	private final List<Object> events = new ArrayList<>();
+
+	private final InMemoryReleaseRepository repository = new InMemoryReleaseRepository(this.events::add);
+
+	@Test
+	void whenRepositoryIsEmptyThenNoReleasesAreFound() throws ParseException {
+		assertThat(this.repository.findAllOfType(null)).isEmpty();
+		assertThat(this.repository.findAllOfTypeInPeriod(null, date("2024-06-01"), date("2024-06-30"))).isEmpty();
+	}
+
+	@Test
+	void whenFindingAllOfTypeThenReleasesOfThatTypeAreReturnedInOrder() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release bootCommercial = release("Spring Boot", "2.7.21", "2024-06-01", Type.ENTERPRISE);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.set(List.of(boot, bootCommercial, framework));
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot, bootCommercial, framework);
+		assertThat(this.repository.findAllOfType(Type.OSS)).containsExactly(boot, framework);
+		assertThat(this.repository.findAllOfType(Type.ENTERPRISE)).containsExactly(bootCommercial);
+	}
+
+	@Test
+	void whenFindingInPeriodThenStartAndEndAreInclusive() throws ParseException {
+		Release before = release("Spring Boot", "3.3.0", "2024-05-31", Type.OSS);
+		Release first = release("Spring Boot", "3.3.1", "2024-06-01", Type.OSS);
+		Release last = release("Spring Boot", "3.3.2", "2024-06-30", Type.OSS);
+		Release after = release("Spring Boot", "3.3.3", "2024-07-01", Type.OSS);
+		this.repository.set(List.of(after, last, first, before));
+		assertThat(this.repository.findAllOfTypeInPeriod(Type.OSS, date("2024-06-01"), date("2024-06-30")))
+			.containsExactly(first, last);
+	}
+
+	@Test
+	void whenFindingInPeriodThenReleasesWithAnUnparseableDateAreAlwaysReturned() throws ParseException {
+		Release undated = release("Spring Boot", "3.3.1", "soon", Type.OSS);
+		this.repository.set(List.of(undated));
+		assertThat(this.repository.findAllOfTypeInPeriod(null, date("2024-06-01"), date("2024-06-30")))
+			.containsExactly(undated);
+		assertThat(this.repository.findAllOfTypeInPeriod(Type.ENTERPRISE, date("2024-06-01"), date("2024-06-30")))
+			.isEmpty();
+	}
+
+	@Test
+	void whenFindingInPeriodThenResultsMatchALinearFilter() throws ParseException {
+		Random random = new Random(20240601);
+		LocalDate origin = LocalDate.of(2020, 1, 1);
+		List<Release> releases = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			Type type = random.nextBoolean() ? Type.OSS : Type.ENTERPRISE;
+			releases.add(release("Project " + random.nextInt(50), "1.0." + i,
+					origin.plusDays(random.nextInt(2000)).toString(), type));
+		}
+		this.repository.set(releases);
+		for (int i = 0; i < 500; i++) {
+			LocalDate start = origin.plusDays(random.nextInt(2100) - 50);
+			LocalDate end = start.plusDays(random.nextInt(60) - 5);
+			Date startDate = date(start.toString());
+			Date endDate = date(end.toString());
+			for (Type type : new Type[] { null, Type.OSS, Type.ENTERPRISE }) {
+				List<Release> expected = releases.stream()
+					.filter(isWithinPeriod(startDate, endDate))
+					.filter((release) -> type == null || release.getType() == type)
+					.toList();
+				assertThat(this.repository.findAllOfTypeInPeriod(type, startDate, endDate))
+					.containsExactlyInAnyOrderElementsOf(expected);
+			}
+		}
+	}
+
+	@Test
+	void whenProjectIsUpdatedThenItsReleasesAreReplacedAndOtherProjectsAreUnchanged() throws ParseException {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.set(List.of(boot, framework));
+		Release updatedBoot = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		ReleaseChanges changes = this.repository.update(Map.of("Spring Boot", List.of(updatedBoot)));
+		assertThat(changes.getChangedProjects()).containsExactly("Spring Boot");
+		assertThat(this.repository.findAllOfType(null)).containsExactlyInAnyOrder(framework, updatedBoot);
+		assertThat(this.repository.findAllOfTypeInPeriod(null, date("2024-06-20"), date("2024-06-20"))).isEmpty();
+		assertThat(this.repository.findAllOfTypeInPeriod(null, date("2024-06-13"), date("2024-06-21")))
+			.containsExactly(framework, updatedBoot);
+	}
+
+	@Test
+	void whenProjectIsUpdatedWithNoReleasesThenItIsRemoved() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.set(List.of(boot, framework));
+		ReleaseChanges changes = this.repository.update(Map.of("Spring Boot", Collections.emptyList()));
+		assertThat(changes.getChangedProjects()).containsExactly("Spring Boot");
+		assertThat(this.repository.getProjects()).containsExactly("Spring Framework");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(framework);
+	}
+
+	@Test
+	void whenUpdateDoesNotChangeAnythingThenGenerationIsUnchanged() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		ReleaseChanges first = this.repository.update(Map.of("Spring Boot", List.of(boot)));
+		assertThat(first.getGeneration()).isEqualTo(1);
+		ReleaseChanges second = this.repository
+			.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS))));
+		assertThat(second.isEmpty()).isTrue();
+		assertThat(second.getGeneration()).isEqualTo(1);
+		assertThat(this.repository.getGeneration()).isEqualTo(1);
+	}
+
+	@Test
+	void whenProjectsChangeThenGenerationIncreases() {
+		this.repository
+			.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS))));
+		this.repository
+			.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.2", "2024-07-18", Type.OSS))));
+		ReleaseChanges changes = this.repository.update(
+				Map.of("Spring Framework", List.of(release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS))));
+		assertThat(changes.getGeneration()).isEqualTo(3);
+		assertThat(changes.getChangedProjects()).containsExactly("Spring Framework");
+	}
+
+	@Test
+	void whenProjectIsUpdatedThenChangesDescribeAddedChangedAndRemovedReleases() {
+		Release released = release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS);
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release commercial = release("Spring Boot", "2.7.21", "2024-06-20", Type.ENTERPRISE);
+		this.repository.set(List.of(released, scheduled, commercial));
+		Release rescheduled = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		Release added = release("Spring Boot", "3.3.2", "2024-07-18", Type.OSS);
+		ReleaseChanges changes = this.repository.update(Map.of("Spring Boot", List.of(released, rescheduled, added)));
+		assertThat(changes.getAdded()).containsExactly(added);
+		assertThat(changes.getChanged()).containsExactly(rescheduled);
+		assertThat(changes.getRemoved()).containsExactly(commercial);
+	}
+
+	@Test
+	void whenReleasesAreFirstSetThenChangesDescribeThemAsAdded() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.set(List.of(boot, framework));
+		assertThat(this.events).singleElement()
+			.isInstanceOfSatisfying(ReleasesChangedEvent.class, (event) -> {
+				assertThat(event.getChanges().getAdded()).containsExactly(boot, framework);
+				assertThat(event.getChanges().getChanged()).isEmpty();
+				assertThat(event.getChanges().getRemoved()).isEmpty();
+			});
+	}
+
+	@Test
+	void whenUpdateChangesContentsThenEventIsPublished() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(boot)));
+		this.repository.update(Map.of("Spring Boot", List.of(boot)));
+		assertThat(this.events).singleElement()
+			.isInstanceOfSatisfying(ReleasesChangedEvent.class, (event) -> {
+				assertThat(event.getChanges().getGeneration()).isEqualTo(1);
+				assertThat(event.getChanges().getChangedProjects()).containsExactly("Spring Boot");
+			});
+	}
+
+	@Test
+	void whenReleasesAreSetThenProjectsThatAreNoLongerPresentAreRemoved() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS)));
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.set(List.of(framework));
+		assertThat(this.repository.getProjects()).containsExactly("Spring Framework");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(framework);
+	}
+
+	@Test
+	void whenReleasesAreRestoredThenTheyAreStaleUntilTheyAreReplaced() {
+		Instant lastUpdated = Instant.parse("2024-06-20T10:15:30Z");
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.restore(List.of(boot), lastUpdated, 42);
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot);
+		assertThat(this.repository.getLastUpdated()).isEqualTo(lastUpdated);
+		assertThat(this.repository.getGeneration()).isEqualTo(42);
+		assertThat(this.repository.isStale()).isTrue();
+		assertThat(this.events).singleElement()
+			.isInstanceOfSatisfying(ReleasesChangedEvent.class,
+					(event) -> assertThat(event.getChanges().getGeneration()).isEqualTo(42));
+		this.repository.replace(Map.of("Spring Boot", List.of(boot)));
+		assertThat(this.repository.isStale()).isFalse();
+		assertThat(this.repository.getLastUpdated()).isAfter(lastUpdated);
+		assertThat(this.repository.getGeneration()).isEqualTo(42);
+	}
+
+	@Test
+	void whenRestoredReleasesOfOneProjectAreUpdatedThenTheyRemainStale() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.restore(List.of(boot, framework), Instant.parse("2024-06-20T10:15:30Z"), 42);
+		Release updatedBoot = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(updatedBoot)));
+		assertThat(this.repository.isStale()).isTrue();
+		assertThat(this.repository.getGeneration()).isEqualTo(43);
+	}
+
+	@Test
+	void whenReleasesAreReplacedThenProjectsThatAreNotPresentAreRemoved() {
+		this.repository.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS))));
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		ReleaseChanges changes = this.repository.replace(Map.of("Spring Framework", List.of(framework)));
+		assertThat(changes.getChangedProjects()).containsExactlyInAnyOrder("Spring Boot", "Spring Framework");
+		assertThat(this.repository.getProjects()).containsExactly("Spring Framework");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(framework);
+	}
+
+	@Test
+	void whenRepositoryHasBeenUpdatedThenReleasesAreNotRestored() {
+		Release boot = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(boot)));
+		this.repository.restore(List.of(release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS)), Instant.now(), 42);
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot);
+		assertThat(this.repository.isStale()).isFalse();
+	}
+
+	@Test
+	void whenReleasesAreSetConcurrentlyWithReadsThenReadersAlwaysSeeAConsistentSnapshot() throws Exception {
+		List<Release> june = releases("June", "2024-06-%02d", 30);
+		List<Release> july = releases("July", "2024-07-%02d", 31);
+		this.repository.set(june);
+		Date start = date("2024-06-01");
+		Date end = date("2024-07-31");
+		int readers = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+		try {
+			AtomicBoolean reading = new AtomicBoolean(true);
+			CountDownLatch started = new CountDownLatch(readers + 1);
+			List<Future<?>> reads = new ArrayList<>();
+			for (int i = 0; i < readers; i++) {
+				reads.add(executor.submit(() -> {
+					started.countDown();
+					started.await();
+					for (int read = 0; read < 2000; read++) {
+						List<Release> found = this.repository.findAllOfTypeInPeriod(null, start, end);
+						String project = found.get(0).getProject();
+						assertThat(found).hasSize(project.equals("June") ? 30 : 31)
+							.allMatch((release) -> release.getProject().equals(project));
+					}
+					return null;
+				}));
+			}
+			Future<Long> writes = executor.submit(() -> {
+				started.countDown();
+				long count = 0;
+				do {
+					this.repository.set(((count++ % 2) == 0) ? july : june);
+				}
+				while (reading.get());
+				return count;
+			});
+			for (Future<?> read : reads) {
+				read.get(10, TimeUnit.SECONDS);
+			}
+			reading.set(false);
+			assertThat(writes.get(10, TimeUnit.SECONDS)).isPositive();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<Release> releases(String project, String dateFormat, int days) {
+		List<Release> releases = new ArrayList<>();
+		for (int day = 1; day <= days; day++) {
+			releases.add(release(project, "1.0." + day, dateFormat.formatted(day), Type.OSS));
+		}
+		return releases;
+	}
+
+	private Predicate<Release> isWithinPeriod(Date start, Date end) {
+		return (release) -> {
+			try {
+				Date date = date(release.getDate());
+				return !(date.before(start) || date.after(end));
+			}
+			catch (ParseException ex) {
+				return true;
+			}
+		};
+	}
+
+	@Test
+	void numberOfReleasesOfEachTypeIsExposedAsAGauge() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		this.repository.bindTo(registry);
+		assertThat(registry.get("releases").tag("type", "OSS").gauge().value()).isZero();
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS),
+				release("Spring Boot", "2.7.21", "2024-06-01", Type.ENTERPRISE),
+				release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS)));
+		assertThat(registry.get("releases").tag("type", "OSS").gauge().value()).isEqualTo(2);
+		assertThat(registry.get("releases").tag("type", "ENTERPRISE").gauge().value()).isEqualTo(1);
+	}
+
+	private Release release(String project, String name, String date, Type type) {
+		return new Release(project, name, date, Status.CLOSED, null, type);
+	}
+
+	private Date date(String date) throws ParseException {
+		return new SimpleDateFormat("yyyy-MM-dd").parse(date);
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReleaseChangeLog}.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseChangeLogTests {
+
+	private static final int CAPACITY = 4;
+
+	private final InMemoryReleaseRepository repository = new InMemoryReleaseRepository(this::publish);
+
+	private final ReleaseChangeLog changeLog = new ReleaseChangeLog(this.repository, CAPACITY);
+
+	@Test
+	void whenNothingHasChangedSinceGenerationThenChangesAreEmpty() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS)));
+		ReleaseChanges changes = this.changeLog.findSince(1);
+		assertThat(changes.getGeneration()).isEqualTo(1);
+		assertThat(changes.isEmpty()).isTrue();
+		assertThat(changes.getAdded()).isEmpty();
+	}
+
+	@Test
+	void whenReleasesHaveChangedSinceGenerationThenChangesDescribeThem() {
+		Release released = release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS);
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.set(List.of(released, scheduled));
+		Release rescheduled = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(rescheduled)));
+		this.repository.update(Map.of("Spring Framework", List.of(framework)));
+		ReleaseChanges changes = this.changeLog.findSince(1);
+		assertThat(changes.getGeneration()).isEqualTo(3);
+		assertThat(changes.getChangedProjects()).containsExactly("Spring Boot", "Spring Framework");
+		assertThat(changes.getAdded()).containsExactly(framework);
+		assertThat(changes.getChanged()).containsExactly(rescheduled);
+		assertThat(changes.getRemoved()).containsExactly(released);
+	}
+
+	@Test
+	void whenReleaseHasBeenAddedAndChangedThenItIsDescribedAsAdded() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS)));
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(scheduled)));
+		Release rescheduled = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(rescheduled)));
+		ReleaseChanges changes = this.changeLog.findSince(1);
+		assertThat(changes.getAdded()).containsExactly(rescheduled);
+		assertThat(changes.getChanged()).isEmpty();
+	}
+
+	@Test
+	void whenReleaseHasBeenAddedAndRemovedThenItIsOmitted() {
+		Release released = release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS);
+		this.repository.set(List.of(released));
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(released, scheduled)));
+		this.repository.update(Map.of("Spring Boot", List.of(released)));
+		ReleaseChanges changes = this.changeLog.findSince(1);
+		assertThat(changes.getGeneration()).isEqualTo(3);
+		assertThat(changes.getAdded()).isEmpty();
+		assertThat(changes.getChanged()).isEmpty();
+		assertThat(changes.getRemoved()).isEmpty();
+	}
+
+	@Test
+	void whenReleaseHasBeenRemovedAndAddedAgainThenItIsDescribedAsChanged() {
+		Release released = release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS);
+		this.repository.set(List.of(released));
+		this.repository.update(Map.of("Spring Boot", List.of()));
+		Release reopened = new Release("Spring Boot", "3.3.0", "2024-05-24", Status.OPEN, null, Type.OSS);
+		this.repository.update(Map.of("Spring Boot", List.of(reopened)));
+		ReleaseChanges changes = this.changeLog.findSince(1);
+		assertThat(changes.getAdded()).isEmpty();
+		assertThat(changes.getChanged()).containsExactly(reopened);
+		assertThat(changes.getRemoved()).isEmpty();
+	}
+
+	@Test
+	void whenChangesSinceGenerationAreNoLongerRetainedThenNullIsReturned() {
+		for (int i = 1; i <= CAPACITY + 2; i++) {
+			this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2024-06-20", Type.OSS)));
+		}
+		assertThat(this.changeLog.findSince(1)).isNull();
+		assertThat(this.changeLog.findSince(2)).isNotNull();
+		assertThat(this.changeLog.getGeneration()).isEqualTo(CAPACITY + 2);
+	}
+
+	@Test
+	void whenGenerationIsAheadOfTheRepositoryThenNullIsReturned() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS)));
+		assertThat(this.changeLog.findSince(57)).isNull();
+	}
+
+	@Test
+	void whenChangesAreAppendedOutOfOrderThenTheyAreCombinedInGenerationOrder() {
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		Release rescheduled = release("Spring Boot", "3.3.1", "2024-06-21", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		ReleaseChangeLog changeLog = new ReleaseChangeLog(this.repository, CAPACITY);
+		changeLog.append(new ReleaseChanges(1, Set.of("Spring Boot"), List.of(scheduled), List.of(), List.of()));
+		changeLog.append(new ReleaseChanges(3, Set.of("Spring Boot"), List.of(), List.of(), List.of(rescheduled)));
+		assertThat(changeLog.findSince(1)).isNull();
+		changeLog.append(new ReleaseChanges(2, Set.of("Spring Boot", "Spring Framework"), List.of(framework),
+				List.of(rescheduled), List.of()));
+		changeLog.append(new ReleaseChanges(2, Set.of("Spring Boot"), List.of(), List.of(), List.of()));
+		ReleaseChanges changes = changeLog.findSince(0);
+		assertThat(changes.getGeneration()).isEqualTo(3);
+		assertThat(changes.getChangedProjects()).containsExactlyInAnyOrder("Spring Boot", "Spring Framework");
+		assertThat(changes.getAdded()).containsExactly(framework);
+		assertThat(changes.getChanged()).isEmpty();
+		assertThat(changes.getRemoved()).isEmpty();
+	}
+
+	@Test
+	void whenTokenIdentifiesAGenerationThenChangesSinceThatGenerationAreReturned() {
+		Release scheduled = release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS);
+		this.repository.set(List.of(scheduled));
+		Release framework = release("Spring Framework", "6.1.10", "2024-06-13", Type.OSS);
+		this.repository.update(Map.of("Spring Framework", List.of(framework)));
+		String token = this.changeLog.tokenFor(1);
+		assertThat(token).isEqualTo(Long.toHexString(this.repository.getEpoch()) + "-1");
+		ReleaseChanges changes = this.changeLog.findSince(token);
+		assertThat(changes.getGeneration()).isEqualTo(2);
+		assertThat(changes.getAdded()).containsExactly(framework);
+		assertThat(this.changeLog.getToken()).isEqualTo(this.changeLog.tokenFor(2));
+	}
+
+	@Test
+	void whenTokenWasIssuedByAnotherInstanceThenNullIsReturned() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS)));
+		this.repository.set(List.of(release("Spring Boot", "3.3.2", "2024-06-20", Type.OSS)));
+		String otherEpoch = Long.toHexString(this.repository.getEpoch() ^ 1);
+		assertThat(this.changeLog.findSince(otherEpoch + "-1")).isNull();
+	}
+
+	@Test
+	void whenTokenIsMalformedThenNullIsReturned() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2024-06-20", Type.OSS)));
+		assertThat(this.changeLog.findSince("0")).isNull();
+		assertThat(this.changeLog.findSince("zz-0")).isNull();
+		assertThat(this.changeLog.findSince(Long.toHexString(this.repository.getEpoch()) + "-x")).isNull();
+	}
+
+	@Test
+	void whenLogIsEmptyThenOnlyTheCurrentGenerationHasNoChanges() {
+		assertThat(this.changeLog.findSince(0)).isNotNull();
+		assertThat(this.changeLog.findSince(1)).isNull();
+	}
+
+	private void publish(Object event) {
+		if (event instanceof ReleasesChangedEvent releasesChanged) {
+			this.changeLog.onReleasesChanged(releasesChanged);
+		}
+	}
+
+	private Release release(String project, String name, String date, Type type) {
+		return new Release(project, name, date, Status.CLOSED, null, type);
+	}
+
+}
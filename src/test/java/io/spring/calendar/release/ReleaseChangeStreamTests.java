@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link ReleaseChangeStream}.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseChangeStreamTests {
+
+	private static final int BUFFER_SIZE = 32;
+
+	private static final int CHANGE_LOG_CAPACITY = 24;
+
+	private static final int SENDER_THREADS = 3;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(SENDER_THREADS);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final InMemoryReleaseRepository repository = new InMemoryReleaseRepository(this::publish);
+
+	private final ReleaseChangeLog changeLog = new ReleaseChangeLog(this.repository, CHANGE_LOG_CAPACITY);
+
+	private final ReleaseChangeStream stream = new ReleaseChangeStream(this.changeLog, this.objectMapper,
+			this.executor, BUFFER_SIZE);
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void whenReleasesChangeThenSubscribersAreSentTheAddedChangedAndRemovedReleases() throws IOException {
+		RecordingEmitter emitter = subscribe(null, null);
+		Release released = release("Spring Boot", "3.3.0", "2024-05-23", Type.OSS);
+		Release scheduled = release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS);
+		this.repository.set(List.of(released, scheduled));
+		Release rescheduled = release("Spring Boot", "3.3.1", "2099-06-21", Type.OSS);
+		this.repository.set(List.of(rescheduled));
+		List<Event> events = emitter.awaitEvents(2);
+		assertThat(events.get(0).id()).isEqualTo(id(1));
+		assertThat(events.get(0).name()).isEqualTo("releases");
+		JsonNode first = this.objectMapper.readTree(events.get(0).data());
+		assertThat(titles(first.get("added"))).containsExactly("Spring Boot 3.3.0", "Spring Boot 3.3.1");
+		assertThat(first.get("changed")).isEmpty();
+		assertThat(first.get("removed")).isEmpty();
+		assertThat(events.get(1).id()).isEqualTo(id(2));
+		JsonNode second = this.objectMapper.readTree(events.get(1).data());
+		assertThat(second.get("token").asText()).isEqualTo(id(2));
+		assertThat(second.get("added")).isEmpty();
+		assertThat(second.get("changed")).singleElement()
+			.satisfies((event) -> assertThat(event.get("start").asText()).isEqualTo("2099-06-21"));
+		assertThat(titles(second.get("removed"))).containsExactly("Spring Boot 3.3.0");
+	}
+
+	@Test
+	void whenOverdueReleaseIsAddedThenItsEventIsOverdue() throws IOException {
+		RecordingEmitter emitter = subscribe(null, null);
+		this.repository.set(List.of(new Release("Spring Boot", "3.3.1", "2024-06-20", Status.OPEN, null, Type.OSS)));
+		JsonNode changes = this.objectMapper.readTree(emitter.awaitEvents(1).get(0).data());
+		assertThat(changes.get("added").get(0).get("backgroundColor").asText()).isEqualTo("#d14");
+	}
+
+	@Test
+	void whenSubscribedToATypeThenOnlyChangesToReleasesOfThatTypeAreSent() throws IOException {
+		RecordingEmitter enterprise = subscribe(Type.ENTERPRISE, null);
+		RecordingEmitter all = subscribe(null, null);
+		this.repository.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS))));
+		this.repository.update(Map.of("Spring Framework",
+				List.of(release("Spring Framework", "6.1.10", "2099-06-13", Type.OSS),
+						release("Spring Framework", "5.3.37", "2099-06-13", Type.ENTERPRISE))));
+		assertThat(all.awaitEvents(2)).extracting(Event::id).containsExactly(id(1), id(2));
+		List<Event> events = enterprise.awaitEvents(1);
+		assertThat(events).extracting(Event::id).containsExactly(id(2));
+		assertThat(titles(this.objectMapper.readTree(events.get(0).data()).get("added")))
+			.containsExactly("Spring Framework 5.3.37");
+	}
+
+	@Test
+	void whenSubscribingWithLastEventIdThenMissedChangesAreCombinedAndSentFirst() throws IOException {
+		for (int i = 1; i <= 3; i++) {
+			this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2099-06-20", Type.OSS)));
+		}
+		RecordingEmitter emitter = subscribe(null, id(1));
+		this.repository.set(List.of(release("Spring Boot", "3.3.4", "2099-06-20", Type.OSS)));
+		List<Event> events = emitter.awaitEvents(2);
+		assertThat(events).extracting(Event::id).containsExactly(id(3), id(4));
+		JsonNode missed = this.objectMapper.readTree(events.get(0).data());
+		assertThat(titles(missed.get("added"))).containsExactly("Spring Boot 3.3.3");
+		assertThat(titles(missed.get("removed"))).containsExactly("Spring Boot 3.3.1");
+	}
+
+	@Test
+	void whenSubscribingWithLastEventIdAndTypeThenOnlyMissedChangesOfThatTypeAreSent() throws IOException {
+		this.repository.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS))));
+		this.repository.update(Map.of("Spring Framework",
+				List.of(release("Spring Framework", "5.3.37", "2099-06-13", Type.ENTERPRISE))));
+		this.repository.update(Map.of("Spring Boot", List.of(release("Spring Boot", "3.3.2", "2099-06-20", Type.OSS))));
+		RecordingEmitter enterprise = subscribe(Type.ENTERPRISE, id(0));
+		RecordingEmitter upToDateEnterprise = subscribe(Type.ENTERPRISE, id(2));
+		List<Event> events = enterprise.awaitEvents(1);
+		assertThat(events).extracting(Event::id).containsExactly(id(3));
+		assertThat(titles(this.objectMapper.readTree(events.get(0).data()).get("added")))
+			.containsExactly("Spring Framework 5.3.37");
+		this.stream.sendHeartbeats();
+		assertThat(upToDateEnterprise.awaitEvents(1)).extracting(Event::comment).containsExactly("heartbeat");
+	}
+
+	@Test
+	void whenSubscribingWithLatestEventIdThenNoChangesAreSent() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS)));
+		RecordingEmitter emitter = subscribe(null, id(1));
+		this.repository.set(List.of(release("Spring Boot", "3.3.2", "2099-06-20", Type.OSS)));
+		assertThat(emitter.awaitEvents(1)).extracting(Event::id).containsExactly(id(2));
+	}
+
+	@Test
+	void whenSubscribingWithLastEventIdThatIsNoLongerRetainedThenResetIsSent() throws IOException {
+		for (int i = 1; i <= CHANGE_LOG_CAPACITY + 2; i++) {
+			this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2099-06-20", Type.OSS)));
+		}
+		RecordingEmitter emitter = subscribe(null, id(1));
+		List<Event> events = emitter.awaitEvents(1);
+		assertThat(events.get(0).name()).isEqualTo("reset");
+		assertThat(events.get(0).id()).isEqualTo(id(CHANGE_LOG_CAPACITY + 2));
+		JsonNode reset = this.objectMapper.readTree(events.get(0).data());
+		assertThat(reset.get("token").asText()).isEqualTo(id(CHANGE_LOG_CAPACITY + 2));
+		assertThat(reset.get("resync").asBoolean()).isTrue();
+	}
+
+	@Test
+	void whenSubscribingWithLastEventIdFromTheFutureThenResetIsSent() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS)));
+		RecordingEmitter emitter = subscribe(null, id(57));
+		assertThat(emitter.awaitEvents(1)).extracting(Event::name).containsExactly("reset");
+	}
+
+	@Test
+	void whenSubscribingWithLastEventIdFromAnotherInstanceThenResetIsSent() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS)));
+		this.repository.set(List.of(release("Spring Boot", "3.3.2", "2099-06-20", Type.OSS)));
+		String otherEpoch = Long.toHexString(this.repository.getEpoch() ^ 1);
+		RecordingEmitter emitter = subscribe(null, otherEpoch + "-1");
+		assertThat(emitter.awaitEvents(1)).extracting(Event::name, Event::id).containsExactly(tuple("reset", id(2)));
+	}
+
+	@Test
+	void whenSubscribingWithMalformedLastEventIdThenResetIsSent() {
+		this.repository.set(List.of(release("Spring Boot", "3.3.1", "2099-06-20", Type.OSS)));
+		RecordingEmitter emitter = subscribe(null, "1");
+		assertThat(emitter.awaitEvents(1)).extracting(Event::name).containsExactly("reset");
+	}
+
+	@Test
+	void whenHeartbeatsAreSentThenEachSubscriberReceivesAComment() {
+		RecordingEmitter oss = subscribe(Type.OSS, null);
+		RecordingEmitter all = subscribe(null, null);
+		this.stream.sendHeartbeats();
+		assertThat(oss.awaitEvents(1)).extracting(Event::comment).containsExactly("heartbeat");
+		assertThat(all.awaitEvents(1)).extracting(Event::comment).containsExactly("heartbeat");
+	}
+
+	@Test
+	void whenSubscriberIsSlowThenItIsEvictedWithoutDelayingOtherSubscribers() throws Exception {
+		CountDownLatch unblock = new CountDownLatch(1);
+		RecordingEmitter slow = new RecordingEmitter(unblock);
+		this.stream.subscribe(slow, null, null);
+		RecordingEmitter fast = subscribe(null, null);
+		int changes = BUFFER_SIZE + 8;
+		for (int i = 1; i <= changes; i++) {
+			this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2099-06-20", Type.OSS)));
+			assertThat(fast.awaitEvents(i)).hasSize(i);
+		}
+		assertThat(this.stream.getSubscriberCount()).isOne();
+		unblock.countDown();
+		await().atMost(Duration.ofSeconds(10)).until(slow::isCompleted);
+		this.repository.set(List.of(release("Spring Boot", "3.4.0", "2099-06-20", Type.OSS)));
+		assertThat(fast.awaitEvents(changes + 1)).hasSize(changes + 1);
+		assertThat(slow.getEvents()).hasSizeLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void whenSubscribersAreBlockedThenHealthySubscriberIsNotDelayed() {
+		CountDownLatch unblock = new CountDownLatch(1);
+		List<RecordingEmitter> blocked = new ArrayList<>();
+		for (int i = 0; i < SENDER_THREADS - 1; i++) {
+			RecordingEmitter emitter = new RecordingEmitter(unblock);
+			this.stream.subscribe(emitter, null, null);
+			blocked.add(emitter);
+		}
+		RecordingEmitter healthy = subscribe(null, null);
+		int changes = BUFFER_SIZE * 2;
+		for (int i = 1; i <= changes; i++) {
+			this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2099-06-20", Type.OSS)));
+			assertThat(healthy.awaitEvents(i)).hasSize(i);
+		}
+		assertThat(this.stream.getSubscriberCount()).isOne();
+		unblock.countDown();
+		for (RecordingEmitter emitter : blocked) {
+			await().atMost(Duration.ofSeconds(10)).until(emitter::isCompleted);
+		}
+	}
+
+	@Test
+	void whenSendingFailsThenSubscriberIsRemoved() {
+		RecordingEmitter failing = new RecordingEmitter(null) {
+
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+
+		};
+		this.stream.subscribe(failing, null, null);
+		this.stream.sendHeartbeats();
+		await().atMost(Duration.ofSeconds(10)).until(() -> this.stream.getSubscriberCount() == 0);
+	}
+
+	@Test
+	void whenManySubscribersResumeConcurrentlyWithChangesThenEachReceivesEveryChangeOnceInOrder() throws Exception {
+		int subscribers = 200;
+		int changes = 20;
+		ExecutorService subscribing = Executors.newFixedThreadPool(8);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<RecordingEmitter>> emitters = new ArrayList<>();
+			for (int i = 0; i < subscribers; i++) {
+				emitters.add(subscribing.submit(() -> {
+					start.await();
+					return subscribe(null, id(0));
+				}));
+			}
+			start.countDown();
+			for (int i = 1; i <= changes; i++) {
+				this.repository.set(List.of(release("Spring Boot", "3.3." + i, "2099-06-20", Type.OSS)));
+			}
+			String lastId = id(changes);
+			for (Future<RecordingEmitter> future : emitters) {
+				RecordingEmitter emitter = future.get(10, TimeUnit.SECONDS);
+				await().atMost(Duration.ofSeconds(10))
+					.until(() -> emitter.getEvents().stream().anyMatch((event) -> lastId.equals(event.id())));
+				List<Long> generations = emitter.getEvents().stream().map(this::generation).toList();
+				assertThat(generations).isSorted().doesNotHaveDuplicates().last().isEqualTo((long) changes);
+			}
+			assertThat(this.stream.getSubscriberCount()).isEqualTo(subscribers);
+		}
+		finally {
+			subscribing.shutdownNow();
+		}
+	}
+
+	private RecordingEmitter subscribe(Type type, String lastEventId) {
+		RecordingEmitter emitter = new RecordingEmitter(null);
+		this.stream.subscribe(emitter, type, lastEventId);
+		return emitter;
+	}
+
+	private String id(long generation) {
+		return this.changeLog.tokenFor(generation);
+	}
+
+	private long generation(Event event) {
+		return Long.parseLong(event.id().substring(event.id().indexOf('-') + 1));
+	}
+
+	private void publish(Object event) {
+		if (event instanceof ReleasesChangedEvent releasesChanged) {
+			this.changeLog.onReleasesChanged(releasesChanged);
+			this.stream.onReleasesChanged(releasesChanged);
+		}
+	}
+
+	private List<String> titles(JsonNode events) {
+		List<String> titles = new ArrayList<>();
+		events.forEach((event) -> titles.add(event.get("title").asText()));
+		return titles;
+	}
+
+	private Release release(String project, String name, String date, Type type) {
+		return new Release(project, name, date, Status.CLOSED, null, type);
+	}
+
+	/**
+	 * An event that was sent to a {@link RecordingEmitter}.
+	 *
+	 * @param id the id of the event
+	 * @param name the name of the event
+	 * @param data the data of the event
+	 * @param comment the comment of the event
+	 */
+	record Event(String id, String name, String data, String comment) {
+
+		static Event parse(String text) {
+			Map<String, String> fields = new HashMap<>();
+			for (String line : text.split("\n")) {
+				int colon = line.indexOf(':');
+				if (colon >= 0) {
+					fields.put(line.substring(0, colon), line.substring(colon + 1));
+				}
+			}
+			return new Event(fields.get("id"), fields.get("event"), fields.get("data"), fields.get(""));
+		}
+
+	}
+
+	/**
+	 * An {@link SseEmitter} that records the events that are sent to it, optionally
+	 * blocking each send until a latch has been counted down.
+	 */
+	static class RecordingEmitter extends SseEmitter {
+
+		private final List<Event> events = new CopyOnWriteArrayList<>();
+
+		private final CountDownLatch unblock;
+
+		private volatile boolean completed;
+
+		RecordingEmitter(CountDownLatch unblock) {
+			this.unblock = unblock;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (this.unblock != null) {
+				try {
+					this.unblock.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException();
+				}
+			}
+			StringBuilder text = new StringBuilder();
+			builder.build().forEach((data) -> text.append(data.getData()));
+			this.events.add(Event.parse(text.toString()));
+		}
+
+		@Override
+		public void complete() {
+			this.completed = true;
+			super.complete();
+		}
+
+		List<Event> awaitEvents(int count) {
+			await().atMost(Duration.ofSeconds(10)).until(() -> this.events.size() >= count);
+			return getEvents();
+		}
+
+		List<Event> getEvents() {
+			return List.copyOf(this.events);
+		}
+
+		boolean isCompleted() {
+			return this.completed;
+		}
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.util.List;
+import java.util.Set;
+
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Tests for {@link ReleaseChangesController}.
+ *
+ * @author agent (agent@local)
+ */
+@WebMvcTest(ReleaseChangesController.class)
+class ReleaseChangesControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private ReleaseChangeLog releaseChangeLog;
+
+	@Test
+	void whenChangesAreRetainedThenAddedChangedAndRemovedEventsAreReturned() throws Exception {
+		Release added = new Release("Spring Boot", "3.3.2", "2099-07-18", Status.OPEN, null, Type.OSS);
+		Release changed = new Release("Spring Boot", "3.3.1", "2024-06-20", Status.CLOSED, null, Type.OSS);
+		Release removed = new Release("Spring Boot", "2.7.21", "2024-06-20", Status.CLOSED, null, Type.ENTERPRISE);
+		ReleaseChanges changes = new ReleaseChanges(7, Set.of("Spring Boot"), List.of(added), List.of(changed),
+				List.of(removed));
+		given(this.releaseChangeLog.findSince("2a-5")).willReturn(changes);
+		given(this.releaseChangeLog.tokenFor(7)).willReturn("2a-7");
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/changes?since=2a-5"))
+			.andExpect(MockMvcResultMatchers.content()
+				.json("""
+						{"token":"2a-7","resync":false,
+						"added":[{"title":"Spring Boot 3.3.2","allDay":true,"start":"2099-07-18"}],
+						"changed":[{"title":"Spring Boot 3.3.1","backgroundColor":"#6db33f"}],
+						"removed":[{"title":"Spring Boot 2.7.21 (Enterprise)"}]}
+						"""));
+	}
+
+	@Test
+	void whenTypeIsSpecifiedThenOnlyChangesToReleasesOfThatTypeAreReturned() throws Exception {
+		Release oss = new Release("Spring Boot", "3.3.1", "2024-06-20", Status.CLOSED, null, Type.OSS);
+		Release enterprise = new Release("Spring Boot", "2.7.21", "2024-06-20", Status.CLOSED, null, Type.ENTERPRISE);
+		given(this.releaseChangeLog.findSince("2a-5"))
+			.willReturn(new ReleaseChanges(6, Set.of("Spring Boot"), List.of(oss, enterprise), List.of(), List.of()));
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/changes?since=2a-5&type=commercial"))
+			.andExpect(MockMvcResultMatchers.jsonPath("$.added[*].title").value("Spring Boot 2.7.21 (Enterprise)"));
+	}
+
+	@Test
+	void whenChangesAreNoLongerRetainedOrTheTokenIsFromAnotherInstanceThenResyncIsReturned() throws Exception {
+		given(this.releaseChangeLog.getToken()).willReturn("2a-42");
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/changes?since=1b-1"))
+			.andExpect(MockMvcResultMatchers.content().json("{\"token\":\"2a-42\",\"resync\":true}", true));
+	}
+
+	@Test
+	void whenSinceIsMissingThenBadRequestIsReturned() throws Exception {
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/changes"))
+			.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+}
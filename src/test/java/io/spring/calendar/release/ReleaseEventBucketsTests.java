@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.spring.calendar.release;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReleaseEventBuckets}.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseEventBucketsTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void whenThereAreNoReleasesThenEmptyArrayIsReturned() throws ParseException {
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(List.of(), this::serialize);
+		assertThat(buckets.findAllInPeriod(date("2024-06-01"), date("2024-06-30"), 0))
+			.asString(StandardCharsets.UTF_8)
+			.isEqualTo("[]");
+	}
+
+	@Test
+	void whenFindingInPeriodThenStartAndEndAreInclusive() throws Exception {
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(List.of(release("a", "2024-05-31"),
+				release("b", "2024-06-01"), release("c", "2024-06-15"), release("d", "2024-06-30"),
+				release("e", "2024-07-01")), this::serialize);
+		assertThat(events(buckets, "2024-06-01", "2024-06-30")).containsExactly("b", "c", "d");
+		assertThat(events(buckets, "2024-06-02", "2024-06-29")).containsExactly("c");
+	}
+
+	@Test
+	void whenFindingInPeriodThatSpansSeveralMonthsThenEventsFromEachMonthAreReturnedInOrder() throws Exception {
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(List.of(release("c", "2024-08-01"),
+				release("a", "2024-05-20"), release("b", "2024-06-15"), release("d", "2024-12-25")), this::serialize);
+		assertThat(events(buckets, "2024-05-15", "2024-08-01")).containsExactly("a", "b", "c");
+		assertThat(events(buckets, "2023-01-01", "2025-01-01")).containsExactly("a", "b", "c", "d");
+	}
+
+	@Test
+	void whenFindingInPeriodThenReleasesWithAnUnparseableDateAreAlwaysReturned() throws Exception {
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(List.of(release("a", "2024-06-01"),
+				release("b", "unknown")), this::serialize);
+		assertThat(events(buckets, "2024-07-01", "2024-07-31")).containsExactly("b");
+		assertThat(events(buckets, "2024-06-01", "2024-06-30")).containsExactly("a", "b");
+	}
+
+	@Test
+	void whenFindingInPeriodThenResultsMatchTheReleaseIndex() throws Exception {
+		Random random = new Random(20260701L);
+		LocalDate origin = LocalDate.of(2020, 1, 1);
+		List<Release> releases = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			releases.add(release("r" + i, origin.plusDays(random.nextInt(1500)).toString()));
+		}
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(releases, this::serialize);
+		ReleaseIndex index = new ReleaseIndex(releases);
+		for (int i = 0; i < 500; i++) {
+			LocalDate start = origin.plusDays(random.nextInt(1500));
+			LocalDate end = start.plusDays(random.nextInt(100));
+			List<String> expected = index.findAllOfTypeInPeriod(null, date(start.toString()), date(end.toString()))
+				.stream()
+				.map(Release::getProject)
+				.toList();
+			assertThat(events(buckets, start.toString(), end.toString())).as("%s to %s", start, end)
+				.containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	void whenOpenReleaseIsOverdueThenOverdueEventIsReturned() throws Exception {
+		ReleaseEventBuckets buckets = ReleaseEventBuckets.of(
+				List.of(release("a", "2024-06-10", Status.OPEN), release("b", "2024-06-10", Status.CLOSED),
+						release("c", "2024-06-10", Status.UNKNOWN)),
+				this::serialize);
+		long dayOfRelease = LocalDate.parse("2024-06-10").toEpochDay();
+		assertThat(backgroundColors(buckets, dayOfRelease)).containsExactly(null, "#6db33f", null);
+		assertThat(backgroundColors(buckets, dayOfRelease + 1)).containsExactly("#d14", "#6db33f", null);
+	}
+
+	private List<String> backgroundColors(ReleaseEventBuckets buckets, long today) throws Exception {
+		List<Map<String, Object>> events = this.objectMapper.readValue(
+				buckets.findAllInPeriod(date("2024-06-01"), date("2024-06-30"), today),
+				new TypeReference<List<Map<String, Object>>>() {
+				});
+		return events.stream().map((event) -> (String) event.get("backgroundColor")).toList();
+	}
+
+	private List<String> events(ReleaseEventBuckets buckets, String start, String end)
+			throws IOException, ParseException {
+		List<ReleaseEvent> events = this.objectMapper.readValue(
+				buckets.findAllInPeriod(date(start), date(end), LocalDate.now().toEpochDay()),
+				new TypeReference<List<ReleaseEvent>>() {
+				});
+		return events.stream().map((event) -> event.title().substring(0, event.title().indexOf(' '))).toList();
+	}
+
+	private byte[] serialize(ReleaseEvent event) {
+		try {
+			return this.objectMapper.writeValueAsBytes(event);
+		}
+		catch (JsonProcessingException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private Release release(String project, String date) {
+		return release(project, date, Status.CLOSED);
+	}
+
+	private Release release(String project, String date, Status status) {
+		return new Release(project, "1.0.0", date, status, null, Type.OSS);
+	}
+
+	private Date date(String date) throws ParseException {
+		return new SimpleDateFormat("yyyy-MM-dd").parse(date);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,31 +16,39 @@
 
 package io.spring.calendar.release;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Set;
 
 import io.spring.calendar.release.Release.Status;
 import io.spring.calendar.release.Release.Type;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
 
 /**
  * Tests for {@link ReleaseEventsController}.
  *
  * @author Andy Wilkinson
  */
-@WebMvcTest
+@WebMvcTest(ReleaseEventsController.class)
 class ReleaseEventsControllerTests {
 
 	@Autowired
@@ -49,6 +57,16 @@ class ReleaseEventsControllerTests {
 	@MockitoBean
 	private ReleaseRepository releases;
 
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@BeforeEach
+	void discardRenderedReleases() {
+		this.eventPublisher.publishEvent(new ReleasesChangedEvent(this.releases, new ReleaseChanges(0, Set.of())));
+		clearInvocations(this.releases);
+		given(this.releases.getGeneration()).willReturn(1L);
+	}
+
 	@Test
 	void whenReleasesIsCalledForPeriodWithNoReleasesThenEmptyListIsReturned() throws Exception {
 		this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
@@ -57,10 +75,7 @@ class ReleaseEventsControllerTests {
 
 	@Test
 	void whenReleasesIsCalledThenReleasesInPeriodAreReturned() throws Exception {
-		String start = "2024-06-01";
-		String end = "2024-06-02";
-		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-		given(this.releases.findAllOfTypeInPeriod(null, format.parse(start), format.parse(end))).willReturn(
+		given(this.releases.findAllOfType(null)).willReturn(
 				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)));
 		this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
 			.andExpect(MockMvcResultMatchers.content()
@@ -69,13 +84,10 @@ class ReleaseEventsControllerTests {
 
 	@Test
 	void whenReleasesWithCommercialTypeIsCalledThenEnterpriseReleasesInPeriodAreReturned() throws Exception {
-		String start = "2024-06-01";
-		String end = "2024-06-02";
-		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-		given(this.releases.findAllOfTypeInPeriod(Type.ENTERPRISE, format.parse(start), format.parse(end)))
+		given(this.releases.findAllOfType(Type.ENTERPRISE))
 			.willReturn(Arrays
 				.asList(new Release("Spring Boot", "2.7.21", "2024-06-01", Status.CLOSED, null, Type.ENTERPRISE)));
-		given(this.releases.findAllOfTypeInPeriod(Type.OSS, format.parse(start), format.parse(end))).willReturn(
+		given(this.releases.findAllOfType(Type.OSS)).willReturn(
 				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)));
 		this.mvc.perform(MockMvcRequestBuilders.get("/releases?type=commercial&start=2024-06-01&end=2024-06-02"))
 			.andExpect(MockMvcResultMatchers.content()
@@ -87,13 +99,10 @@ class ReleaseEventsControllerTests {
 
 	@Test
 	void whenReleasesWithEnterpriseTypeIsCalledThenEnterpriseReleasesInPeriodAreReturned() throws Exception {
-		String start = "2024-06-01";
-		String end = "2024-06-02";
-		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-		given(this.releases.findAllOfTypeInPeriod(Type.ENTERPRISE, format.parse(start), format.parse(end)))
+		given(this.releases.findAllOfType(Type.ENTERPRISE))
 			.willReturn(Arrays
 				.asList(new Release("Spring Boot", "2.7.21", "2024-06-01", Status.CLOSED, null, Type.ENTERPRISE)));
-		given(this.releases.findAllOfTypeInPeriod(Type.OSS, format.parse(start), format.parse(end))).willReturn(
+		given(this.releases.findAllOfType(Type.OSS)).willReturn(
 				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)));
 		this.mvc.perform(MockMvcRequestBuilders.get("/releases?type=enterprise&start=2024-06-01&end=2024-06-02"))
 			.andExpect(MockMvcResultMatchers.content()
@@ -103,6 +112,120 @@ class ReleaseEventsControllerTests {
 				.json("[{\"allDay\":true,\"backgroundColor\":\"#6db33f\",\"start\":\"2024-06-01\",\"title\":\"Spring Boot 3.3.1\"}]"));
 	}
 
+	@Test
+	void whenReleasesIsCalledThenResponseHasValidators() throws Exception {
+		given(this.releases.getEpoch()).willReturn(0xcafeL);
+		given(this.releases.getGeneration()).willReturn(5L);
+		given(this.releases.getLastUpdated()).willReturn(Instant.now());
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.startsWith("\"cafe-5-ALL-")))
+			.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED));
+	}
+
+	@Test
+	void whenGenerationChangesWhileRenderingThenEventsOfTheNewGenerationAreReturnedWithTheirETag() throws Exception {
+		given(this.releases.getGeneration()).willReturn(1L, 1L, 2L);
+		given(this.releases.findAllOfType(null)).willReturn(
+				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)),
+				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS),
+						new Release("Spring Boot", "3.3.2", "2024-06-20", Status.OPEN, null, Type.OSS)));
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-30"))
+			.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.startsWith("\"0-2-ALL-")))
+			.andExpect(MockMvcResultMatchers.jsonPath("$[*].title")
+				.value(Matchers.containsInAnyOrder("Spring Boot 3.3.1", "Spring Boot 3.3.2")));
+	}
+
+	@Test
+	void whenReleasesIsCalledWithMatchingIfNoneMatchThenNotModifiedIsReturned() throws Exception {
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isNotModified())
+			.andExpect(MockMvcResultMatchers.content().string(""));
+		then(this.releases).should().findAllOfType(any());
+	}
+
+	@Test
+	void whenReleasesIsCalledWithIfNoneMatchForAnotherQueryThenReleasesAreReturned() throws Exception {
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-03")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?type=oss&start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenReleasesIsCalledWithIfNoneMatchFromAnEarlierGenerationThenReleasesAreReturned() throws Exception {
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.getGeneration()).willReturn(2L);
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenReleasesIsCalledWithIfNoneMatchFromAnotherEpochThenReleasesAreReturned() throws Exception {
+		given(this.releases.getEpoch()).willReturn(1L);
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.getEpoch()).willReturn(2L);
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenReleasesAreStaleThenResponseHasWarning() throws Exception {
+		given(this.releases.isStale()).willReturn(true);
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string("Warning", "110 - \"Response is Stale\""));
+	}
+
+	@Test
+	void whenReleasesAreNoLongerStaleThenIfNoneMatchFromWhenTheyWereStaleReturnsReleases() throws Exception {
+		given(this.releases.isStale()).willReturn(true);
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.isStale()).willReturn(false);
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().doesNotExist("Warning"));
+	}
+
+	@Test
+	void whenReleasesIsCalledWithIfModifiedSinceAfterLastUpdateThenNotModifiedIsReturned() throws Exception {
+		given(this.releases.getLastUpdated()).willReturn(Instant.now().minusSeconds(60));
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/releases?start=2024-06-01&end=2024-06-02")
+				.header(HttpHeaders.IF_MODIFIED_SINCE, System.currentTimeMillis()))
+			.andExpect(MockMvcResultMatchers.status().isNotModified());
+		then(this.releases).should(never()).findAllOfType(any());
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = { "https://spring.io", "https://enterprise.spring.io" })
 	void releasesAllowsCrossOriginRequestsFromSpringIo(String origin) throws Exception {
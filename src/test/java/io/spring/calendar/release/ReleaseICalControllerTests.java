@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,23 @@
 
 package io.spring.calendar.release;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import biweekly.Biweekly;
 import biweekly.ICalendar;
 import io.spring.calendar.release.Release.Status;
 import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,14 +40,19 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * Tests for {@link ReleaseICalController}.
  *
  * @author Andy Wilkinson
  */
-@WebMvcTest
+@WebMvcTest(ReleaseICalController.class)
 class ReleaseICalControllerTests {
 
 	@Autowired
@@ -52,6 +61,16 @@ class ReleaseICalControllerTests {
 	@MockitoBean
 	private ReleaseRepository releases;
 
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@BeforeEach
+	void discardRenderedReleases() {
+		this.eventPublisher.publishEvent(new ReleasesChangedEvent(this.releases, new ReleaseChanges(0, Set.of())));
+		clearInvocations(this.releases);
+		given(this.releases.getGeneration()).willReturn(1L);
+	}
+
 	@Test
 	void givenNoReleasesWhenIcalIsCalledThenSingleEmptyCalendarIsReturned() throws Exception {
 		String responseBody = this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
@@ -115,6 +134,128 @@ class ReleaseICalControllerTests {
 		});
 	}
 
+	@Test
+	void whenIcalIsCalledRepeatedlyForTheSameGenerationThenCalendarIsOnlyRenderedOnce() throws Exception {
+		given(this.releases.findAllOfType(Type.OSS)).willReturn(
+				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)));
+		String first = this.mvc.perform(MockMvcRequestBuilders.get("/ical?type=oss"))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		String second = this.mvc.perform(MockMvcRequestBuilders.get("/ical?type=oss"))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		assertThat(second).isEqualTo(first);
+		then(this.releases).should(times(1)).findAllOfType(Type.OSS);
+	}
+
+	@Test
+	void whenGenerationChangesThenCalendarIsRenderedAgain() throws Exception {
+		given(this.releases.findAllOfType(Type.OSS)).willReturn(
+				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)));
+		assertThat(calendars("/ical?type=oss")).singleElement()
+			.satisfies((calendar) -> assertThat(calendar.getEvents()).hasSize(1));
+		given(this.releases.getGeneration()).willReturn(2L);
+		given(this.releases.findAllOfType(Type.OSS)).willReturn(
+				Arrays.asList(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS),
+						new Release("Spring Boot", "3.3.2", "2024-07-18", Status.OPEN, null, Type.OSS)));
+		assertThat(calendars("/ical?type=oss")).singleElement()
+			.satisfies((calendar) -> assertThat(calendar.getEvents()).hasSize(2));
+	}
+
+	@Test
+	void whenIcalIsCalledThenResponseHasValidators() throws Exception {
+		given(this.releases.getLastUpdated()).willReturn(Instant.now());
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical?type=oss"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+			.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED));
+	}
+
+	@Test
+	void whenIcalIsCalledWithMatchingIfNoneMatchThenNotModifiedIsReturnedWithoutRendering() throws Exception {
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/ical?type=oss"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical?type=oss").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isNotModified())
+			.andExpect(MockMvcResultMatchers.content().string(""));
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/ical?type=enterprise").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenIcalIsCalledWithIfNoneMatchFromAnEarlierGenerationThenCalendarIsReturned() throws Exception {
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.getGeneration()).willReturn(2L);
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenIcalIsCalledWithIfNoneMatchFromAnotherEpochThenCalendarIsReturned() throws Exception {
+		given(this.releases.getEpoch()).willReturn(1L);
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.getEpoch()).willReturn(2L);
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	void whenGenerationChangesWhileRenderingThenCalendarOfTheNewGenerationIsReturnedWithItsETag() throws Exception {
+		given(this.releases.getGeneration()).willReturn(1L, 1L, 2L);
+		given(this.releases.findAllOfType(null)).willReturn(
+				List.of(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS)),
+				List.of(new Release("Spring Boot", "3.3.1", "2024-06-01", Status.CLOSED, null, Type.OSS),
+						new Release("Spring Boot", "3.3.2", "2024-07-18", Status.OPEN, null, Type.OSS)));
+		String responseBody = this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
+			.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0-2-ALL\""))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+		assertThat(Biweekly.parse(responseBody).first().getEvents()).hasSize(2);
+	}
+
+	@Test
+	void whenReleasesAreStaleThenResponseHasWarning() throws Exception {
+		given(this.releases.isStale()).willReturn(true);
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string("Warning", "110 - \"Response is Stale\""));
+	}
+
+	@Test
+	void whenReleasesAreNoLongerStaleThenIfNoneMatchFromWhenTheyWereStaleReturnsCalendar() throws Exception {
+		given(this.releases.isStale()).willReturn(true);
+		String etag = this.mvc.perform(MockMvcRequestBuilders.get("/ical"))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+		given(this.releases.isStale()).willReturn(false);
+		this.mvc.perform(MockMvcRequestBuilders.get("/ical").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().doesNotExist("Warning"));
+	}
+
+	@Test
+	void whenIcalIsCalledWithIfModifiedSinceAfterLastUpdateThenNotModifiedIsReturned() throws Exception {
+		given(this.releases.getLastUpdated()).willReturn(Instant.now().minusSeconds(60));
+		this.mvc
+			.perform(MockMvcRequestBuilders.get("/ical")
+				.header(HttpHeaders.IF_MODIFIED_SINCE, System.currentTimeMillis()))
+			.andExpect(MockMvcResultMatchers.status().isNotModified());
+		then(this.releases).should(never()).findAllOfType(any());
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = { "https://spring.io", "https://enterprise.spring.io" })
 	void icalAllowsCrossOriginRequestsFromSpringIo(String origin) throws Exception {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.spring.calendar.release;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReleaseSnapshotStore}.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseSnapshotStoreTests {
+
+	private final InMemoryReleaseRepository repository = new InMemoryReleaseRepository((event) -> {
+	});
+
+	@TempDir
+	Path temp;
+
+	@Test
+	void whenSnapshotIsSavedThenItCanBeLoaded() throws IOException {
+		Path file = this.temp.resolve("releases.snapshot");
+		List<Release> releases = List.of(
+				new Release("Spring Boot", "3.3.1", "2024-06-20", Status.CLOSED,
+						URI.create("https://github.com/spring-projects/spring-boot/milestone/1").toURL(), Type.OSS),
+				new Release("Spring Boot", "2.7.21", "2024-06-20", Status.OPEN, null, Type.ENTERPRISE),
+				new Release("Spring Framework", "6.2.0-M1", "2024-06-13", Status.UNKNOWN, null, Type.OSS));
+		this.repository.set(List.of(release()));
+		this.repository.set(releases);
+		new ReleaseSnapshotStore(this.repository, file).save();
+		InMemoryReleaseRepository restored = new InMemoryReleaseRepository((event) -> {
+		});
+		new ReleaseSnapshotStore(restored, file).load();
+		assertThat(restored.findAllOfType(null)).containsExactlyElementsOf(releases);
+		assertThat(restored.getProjects()).containsExactly("Spring Boot", "Spring Framework");
+		assertThat(restored.getLastUpdated())
+			.isEqualTo(this.repository.getLastUpdated().truncatedTo(ChronoUnit.MILLIS));
+		assertThat(restored.getGeneration()).isEqualTo(this.repository.getGeneration());
+		assertThat(restored.isStale()).isTrue();
+	}
+
+	@Test
+	void whenFileIsNullThenSaveAndLoadDoNothing() {
+		this.repository.set(List.of(release()));
+		ReleaseSnapshotStore store = new ReleaseSnapshotStore(this.repository, null);
+		store.save();
+		store.load();
+		assertThat(this.temp).isEmptyDirectory();
+	}
+
+	@Test
+	void whenFileDoesNotExistThenLoadLeavesRepositoryEmpty() {
+		new ReleaseSnapshotStore(this.repository, this.temp.resolve("releases.snapshot")).load();
+		assertThat(this.repository.getProjects()).isEmpty();
+		assertThat(this.repository.isStale()).isFalse();
+	}
+
+	@Test
+	void whenFileIsCorruptThenLoadLeavesRepositoryEmpty() throws IOException {
+		Path file = this.temp.resolve("releases.snapshot");
+		this.repository.set(List.of(release()));
+		new ReleaseSnapshotStore(this.repository, file).save();
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+		InMemoryReleaseRepository restored = new InMemoryReleaseRepository((event) -> {
+		});
+		new ReleaseSnapshotStore(restored, file).load();
+		assertThat(restored.getProjects()).isEmpty();
+		assertThat(restored.isStale()).isFalse();
+	}
+
+	@Test
+	void whenFileIsNotASnapshotThenLoadLeavesRepositoryEmpty() throws IOException {
+		Path file = this.temp.resolve("releases.snapshot");
+		Files.writeString(file, "{\"version\":1}");
+		new ReleaseSnapshotStore(this.repository, file).load();
+		assertThat(this.repository.getProjects()).isEmpty();
+	}
+
+	private Release release() {
+		return new Release("Spring Boot", "3.3.1", "2024-06-20", Status.CLOSED, null, Type.OSS);
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * Tests for {@link ReleaseStreamController}.
+ *
+ * @author agent (agent@local)
+ */
+@WebMvcTest(ReleaseStreamController.class)
+class ReleaseStreamControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private ReleaseChangeStream releaseChangeStream;
+
+	@Test
+	void whenStreamIsRequestedThenEmitterIsSubscribedToAllReleases() throws Exception {
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/stream"))
+			.andExpect(MockMvcResultMatchers.request().asyncStarted());
+		then(this.releaseChangeStream).should().subscribe(any(SseEmitter.class), isNull(), isNull());
+	}
+
+	@Test
+	void whenStreamIsRequestedWithTypeAndLastEventIdThenEmitterIsSubscribedToResume() throws Exception {
+		this.mvc.perform(MockMvcRequestBuilders.get("/releases/stream?type=commercial").header("Last-Event-ID", "2a-5"))
+			.andExpect(MockMvcResultMatchers.request().asyncStarted());
+		then(this.releaseChangeStream).should().subscribe(any(SseEmitter.class), eq(Type.ENTERPRISE), eq("2a-5"));
+	}
+
+}
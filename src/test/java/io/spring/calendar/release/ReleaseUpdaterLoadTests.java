@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.calendar.test.FakeGitHubServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.client.HttpClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load tests for {@link ReleaseUpdater} that run complete update cycles against a
+ * {@link FakeGitHubServer} and report each cycle's wall time, request count and heap
+ * usage through the {@link TestReporter} as the number of repositories grows. Run with
+ * {@code ./gradlew loadTest}.
+ *
+ * @author agent (agent@local)
+ */
+@Tag("load")
+class ReleaseUpdaterLoadTests {
+
+	private static final int MILESTONES = 30;
+
+	private static final Duration LATENCY = Duration.ofMillis(20);
+
+	@ParameterizedTest
+	@ValueSource(ints = { 250, 1000, 4000 })
+	void updateCycles(int repositories, TestReporter reporter) throws Exception {
+		try (FakeGitHubServer server = new FakeGitHubServer(repositories, MILESTONES, LATENCY)) {
+			new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+						HttpMessageConvertersAutoConfiguration.class, HttpClientAutoConfiguration.class,
+						RestTemplateAutoConfiguration.class))
+				.withUserConfiguration(GitHubScanConfiguration.class)
+				.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+				.withBean(RestTemplateCustomizer.class,
+						() -> (restTemplate) -> restTemplate.getInterceptors().add(redirectTo(server.getUrl())))
+				.withPropertyValues("calendar.github.organizations[0].name=fake",
+						"calendar.github.rate-limit.cycle=1h")
+				.run((context) -> {
+					InMemoryReleaseRepository repository = new InMemoryReleaseRepository(context);
+					ReleaseUpdater updater = new ReleaseUpdater(
+							List.copyOf(context.getBeansOfType(ReleaseScheduleSource.class).values()), repository,
+							new ReleaseSnapshotStore(repository, null), context.getBean(MeterRegistry.class));
+					int coldRequests = runCycle(1, repositories, server, updater, reporter);
+					assertThat(repository.getProjects()).hasSize(repositories);
+					assertThat(repository.findAllOfType(null)).hasSize(repositories * MILESTONES);
+					int warmRequests = runCycle(2, repositories, server, updater, reporter);
+					assertThat(warmRequests).isLessThan(coldRequests);
+				});
+		}
+	}
+
+	private int runCycle(int cycle, int repositories, FakeGitHubServer server, ReleaseUpdater updater,
+			TestReporter reporter) {
+		int requests = server.getRequestCount();
+		int notModified = server.getNotModifiedCount();
+		long start = System.nanoTime();
+		updater.updateReleases();
+		long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+		requests = server.getRequestCount() - requests;
+		notModified = server.getNotModifiedCount() - notModified;
+		System.gc();
+		long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+		reporter.publishEntry(Map.of("repositories", String.valueOf(repositories), "cycle", String.valueOf(cycle),
+				"wall", elapsed + "ms", "requests", String.valueOf(requests), "notModified",
+				String.valueOf(notModified), "heap", heap + "MB"));
+		return requests;
+	}
+
+	private ClientHttpRequestInterceptor redirectTo(String url) {
+		return (request, body, execution) -> execution.execute(new HttpRequestWrapper(request) {
+
+			@Override
+			public URI getURI() {
+				return URI.create(request.getURI().toString().replace("https://api.github.com", url));
+			}
+
+		}, body);
+	}
+
+	/**
+	 * Configuration that imports the GitHub-related beans.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ComponentScan("io.spring.calendar.github")
+	static class GitHubScanConfiguration {
+
+	}
+
+}
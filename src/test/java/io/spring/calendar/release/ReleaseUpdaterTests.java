@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.release;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.calendar.release.Release.Status;
+import io.spring.calendar.release.Release.Type;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ReleaseUpdater}.
+ *
+ * @author agent (agent@local)
+ */
+class ReleaseUpdaterTests {
+
+	private final InMemoryReleaseRepository repository = new InMemoryReleaseRepository((event) -> {
+	});
+
+	private final List<ReleaseSchedule> schedules = new ArrayList<>();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ReleaseUpdater updater = new ReleaseUpdater(List.of(() -> this.schedules), this.repository,
+			new ReleaseSnapshotStore(this.repository, null), this.meterRegistry);
+
+	@Test
+	void whenReleasesAreUpdatedThenSchedulesForTheSameProjectAreCombined() {
+		Release boot = release("Spring Boot", "3.3.1", Type.OSS);
+		Release bootCommercial = release("Spring Boot", "2.7.21", Type.ENTERPRISE);
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(boot)));
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(bootCommercial)));
+		this.updater.updateReleases();
+		assertThat(this.repository.getProjects()).containsExactly("Spring Boot");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot, bootCommercial);
+	}
+
+	@Test
+	void whenAProjectNoLongerHasAScheduleThenItIsRemoved() {
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(release("Spring Boot", "3.3.1", Type.OSS))));
+		Release framework = release("Spring Framework", "6.1.10", Type.OSS);
+		this.schedules.add(new ReleaseSchedule("Spring Framework", List.of(framework)));
+		this.updater.updateReleases();
+		this.schedules.remove(0);
+		this.updater.updateReleases();
+		assertThat(this.repository.getProjects()).containsExactly("Spring Framework");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(framework);
+		assertThat(this.repository.getGeneration()).isEqualTo(2);
+	}
+
+	@Test
+	void whenNothingHasChangedThenGenerationIsUnchanged() {
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(release("Spring Boot", "3.3.1", Type.OSS))));
+		this.updater.updateReleases();
+		this.updater.updateReleases();
+		assertThat(this.repository.getGeneration()).isEqualTo(1);
+	}
+
+	@Test
+	void whenReleasesAreUpdatedThenRestoredReleasesAreNoLongerStale() {
+		Release boot = release("Spring Boot", "3.3.1", Type.OSS);
+		this.repository.restore(List.of(boot), Instant.parse("2024-06-20T10:15:30Z"), 5);
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(boot)));
+		this.updater.updateReleases();
+		assertThat(this.repository.isStale()).isFalse();
+		assertThat(this.repository.getGeneration()).isEqualTo(5);
+	}
+
+	@Test
+	void whenReleasesOfSomeProjectsAreUnknownAfterRestoreThenTheirRestoredReleasesAreKeptAndRemainStale() {
+		Release boot = release("Spring Boot", "3.3.1", Type.OSS);
+		Release framework = release("Spring Framework", "6.1.10", Type.OSS);
+		this.repository.restore(List.of(boot, framework), Instant.parse("2024-06-20T10:15:30Z"), 5);
+		Release updatedBoot = release("Spring Boot", "3.3.2", Type.OSS);
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(updatedBoot)));
+		this.schedules.add(ReleaseSchedule.unknown("Spring Framework"));
+		this.updater.updateReleases();
+		assertThat(this.repository.findAllOfType(null)).containsExactlyInAnyOrder(updatedBoot, framework);
+		assertThat(this.repository.isStale()).isTrue();
+		this.schedules.set(1, new ReleaseSchedule("Spring Framework", List.of(framework)));
+		this.updater.updateReleases();
+		assertThat(this.repository.findAllOfType(null)).containsExactlyInAnyOrder(updatedBoot, framework);
+		assertThat(this.repository.isStale()).isFalse();
+	}
+
+	@Test
+	void whenOneOfAProjectsSchedulesIsUnknownThenItsReleasesAreUnchanged() {
+		Release boot = release("Spring Boot", "3.3.1", Type.OSS);
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(boot)));
+		this.updater.updateReleases();
+		this.schedules.set(0, new ReleaseSchedule("Spring Boot", List.of(release("Spring Boot", "3.3.2", Type.OSS))));
+		this.schedules.add(ReleaseSchedule.unknown("Spring Boot"));
+		this.updater.updateReleases();
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot);
+		assertThat(this.repository.getGeneration()).isEqualTo(1);
+	}
+
+	@Test
+	void whenReleasesAreUpdatedThenTimeTakenByEachSourceIsRecorded() {
+		this.updater.updateReleases();
+		assertThat(this.meterRegistry.get("releases.update").tag("outcome", "SUCCESS").timer().count()).isOne();
+	}
+
+	@Test
+	void whenSourceFailsThenFailureIsRecorded() {
+		ReleaseUpdater failingUpdater = new ReleaseUpdater(List.of(() -> {
+			throw new IllegalStateException("Source failed");
+		}), this.repository, new ReleaseSnapshotStore(this.repository, null), this.meterRegistry);
+		assertThatIllegalStateException().isThrownBy(failingUpdater::updateReleases);
+		assertThat(this.meterRegistry.get("releases.update").tag("outcome", "FAILURE").timer().count()).isOne();
+		assertThat(this.repository.getGeneration()).isZero();
+	}
+
+	@Test
+	void whenSourceFailsThenRepositoryIsUntouched() {
+		Release boot = release("Spring Boot", "3.3.1", Type.OSS);
+		this.schedules.add(new ReleaseSchedule("Spring Boot", List.of(boot)));
+		this.updater.updateReleases();
+		ReleaseUpdater failingUpdater = new ReleaseUpdater(List.of(() -> this.schedules, () -> {
+			throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+		}), this.repository, new ReleaseSnapshotStore(this.repository, null), this.meterRegistry);
+		this.schedules.clear();
+		assertThatExceptionOfType(HttpServerErrorException.class).isThrownBy(failingUpdater::updateReleases);
+		assertThat(this.repository.getProjects()).containsExactly("Spring Boot");
+		assertThat(this.repository.findAllOfType(null)).containsExactly(boot);
+		assertThat(this.repository.getGeneration()).isEqualTo(1);
+	}
+
+	private Release release(String project, String name, Type type) {
+		return new Release(project, name, "2024-06-20", Status.CLOSED, null, type);
+	}
+
+}
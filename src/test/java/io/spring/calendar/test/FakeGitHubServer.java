@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.calendar.test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * An embedded stand-in for GitHub's REST API that serves synthetic organizations. Every
+ * organization has the same number of repositories and every repository has the same
+ * number of milestones, the last two of which are open. Responses are paginated with
+ * {@code Link} headers, carry an {@code ETag} that is used to answer conditional requests
+ * with {@code 304 Not Modified}, and report rate limit usage in the
+ * {@code X-RateLimit-*} headers. Each request can be delayed to simulate network latency.
+ *
+ * @author agent (agent@local)
+ */
+public class FakeGitHubServer implements AutoCloseable {
+
+	private static final Pattern REPOSITORIES_PATH = Pattern.compile("/orgs/([^/]+)/repos");
+
+	private static final Pattern MILESTONES_PATH = Pattern.compile("/repos/([^/]+)/([^/]+)/milestones");
+
+	private static final int RATE_LIMIT = 5000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private final AtomicInteger notModified = new AtomicInteger();
+
+	private final int repositories;
+
+	private final int milestones;
+
+	private final Duration latency;
+
+	private final Instant started = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final HttpServer server;
+
+	/**
+	 * Creates and starts a new {@code FakeGitHubServer}.
+	 * @param repositories the number of repositories in each organization
+	 * @param milestones the number of milestones in each repository
+	 * @param latency the delay before responding to each request
+	 * @throws IOException if the server cannot be started
+	 */
+	public FakeGitHubServer(int repositories, int milestones, Duration latency) throws IOException {
+		this.repositories = repositories;
+		this.milestones = milestones;
+		this.latency = latency;
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(this.executor);
+		this.server.start();
+	}
+
+	/**
+	 * Returns the URL of the server, equivalent to {@code https://api.github.com}.
+	 * @return the URL
+	 */
+	public String getUrl() {
+		InetSocketAddress address = this.server.getAddress();
+		return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+	}
+
+	/**
+	 * Returns the number of requests that have been received.
+	 * @return the number of requests
+	 */
+	public int getRequestCount() {
+		return this.requests.get();
+	}
+
+	/**
+	 * Returns the number of requests that have been answered with {@code 304 Not
+	 * Modified}.
+	 * @return the number of not modified responses
+	 */
+	public int getNotModifiedCount() {
+		return this.notModified.get();
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			int request = this.requests.incrementAndGet();
+			sleep();
+			URI uri = exchange.getRequestURI();
+			MultiValueMap<String, String> query = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+			List<Map<String, Object>> items = getItems(uri.getPath(), query);
+			if (items == null) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			int perPage = Math.min(100, intParam(query, "per_page", 30));
+			int page = intParam(query, "page", 1);
+			int lastPage = Math.max(1, (items.size() + perPage - 1) / perPage);
+			List<Map<String, Object>> content = items.subList(Math.min(items.size(), (page - 1) * perPage),
+					Math.min(items.size(), page * perPage));
+			byte[] body = this.objectMapper.writeValueAsBytes(content);
+			String etag = "\"" + digest(body) + "\"";
+			exchange.getResponseHeaders().set("ETag", etag);
+			exchange.getResponseHeaders().set("X-RateLimit-Limit", Integer.toString(RATE_LIMIT));
+			exchange.getResponseHeaders()
+				.set("X-RateLimit-Remaining", Integer.toString(Math.max(0, RATE_LIMIT - request)));
+			exchange.getResponseHeaders()
+				.set("X-RateLimit-Reset", Long.toString(this.started.plus(Duration.ofHours(1)).getEpochSecond()));
+			String link = createLinkHeader(uri, page, lastPage);
+			if (!link.isEmpty()) {
+				exchange.getResponseHeaders().set("Link", link);
+			}
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				this.notModified.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				return;
+			}
+			exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private void sleep() {
+		if (this.latency.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(this.latency.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private List<Map<String, Object>> getItems(String path, MultiValueMap<String, String> query) {
+		Matcher repositoriesMatcher = REPOSITORIES_PATH.matcher(path);
+		if (repositoriesMatcher.matches()) {
+			return createRepositories(repositoriesMatcher.group(1));
+		}
+		Matcher milestonesMatcher = MILESTONES_PATH.matcher(path);
+		if (milestonesMatcher.matches()) {
+			String state = (query.getFirst("state") != null) ? query.getFirst("state") : "open";
+			boolean descending = "desc".equals(query.getFirst("direction"));
+			return createMilestones(state, descending);
+		}
+		return null;
+	}
+
+	private List<Map<String, Object>> createRepositories(String organization) {
+		List<Map<String, Object>> result = new ArrayList<>(this.repositories);
+		for (int i = 1; i <= this.repositories; i++) {
+			String name = "repository-" + i;
+			Map<String, Object> repository = new LinkedHashMap<>();
+			repository.put("name", name);
+			repository.put("full_name", organization + "/" + name);
+			repository.put("html_url", "https://github.com/" + organization + "/" + name);
+			repository.put("milestones_url", getUrl() + "/repos/" + organization + "/" + name + "/milestones{/number}");
+			repository.put("visibility", "public");
+			repository.put("archived", false);
+			repository.put("has_issues", true);
+			repository.put("updated_at", this.started.toString());
+			repository.put("pushed_at", this.started.toString());
+			result.add(repository);
+		}
+		return result;
+	}
+
+	private List<Map<String, Object>> createMilestones(String state, boolean descending) {
+		LocalDate today = LocalDate.ofInstant(this.started, ZoneOffset.UTC);
+		List<Map<String, Object>> result = new ArrayList<>(this.milestones);
+		for (int number = 1; number <= this.milestones; number++) {
+			boolean open = number > this.milestones - 2;
+			if (state.equals("all") || state.equals(open ? "open" : "closed")) {
+				Instant dueOn = today.plusWeeks(2L * (number - this.milestones + 2))
+					.atTime(8, 0)
+					.toInstant(ZoneOffset.UTC);
+				Map<String, Object> milestone = new LinkedHashMap<>();
+				milestone.put("number", number);
+				milestone.put("title", "1." + number + ".0");
+				milestone.put("state", open ? "open" : "closed");
+				milestone.put("due_on", dueOn.toString());
+				milestone.put("updated_at", (open ? this.started : dueOn).toString());
+				result.add(milestone);
+			}
+		}
+		if (descending) {
+			result.sort(Comparator.comparing((Map<String, Object> milestone) -> (String) milestone.get("due_on"))
+				.reversed());
+		}
+		return result;
+	}
+
+	private String createLinkHeader(URI uri, int page, int lastPage) {
+		List<String> links = new ArrayList<>();
+		if (page > 1) {
+			links.add(createLink(uri, page - 1, "prev"));
+		}
+		if (page < lastPage) {
+			links.add(createLink(uri, page + 1, "next"));
+			links.add(createLink(uri, lastPage, "last"));
+		}
+		if (page > 1) {
+			links.add(createLink(uri, 1, "first"));
+		}
+		return String.join(", ", links);
+	}
+
+	private String createLink(URI uri, int page, String rel) {
+		String url = UriComponentsBuilder.fromUriString(getUrl() + uri)
+			.replaceQueryParam("page", page)
+			.build()
+			.toUriString();
+		return "<" + url + ">; rel=\"" + rel + "\"";
+	}
+
+	private int intParam(MultiValueMap<String, String> query, String name, int defaultValue) {
+		String value = query.getFirst(name);
+		return (value != null) ? Integer.parseInt(value) : defaultValue;
+	}
+
+	private String digest(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body), 0, 16);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}